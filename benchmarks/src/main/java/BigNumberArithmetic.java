@@ -0,0 +1,72 @@
+import com.github.evangileon.bignumber.benchmark.Arithmetic;
+
+/**
+ * BigNumber behind the interface of the benchmarks, in the default package to see it.
+ * Loaded by name from BigNumberBenchmark
+ */
+public class BigNumberArithmetic implements Arithmetic<jxy132330_Jun_Yu_BigNumber_5> {
+
+    @Override
+    public void setBase(int base) {
+        jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(base);
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        jxy132330_Jun_Yu_BigNumber_5.setParallelism(parallelism);
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 parse(String decimal) {
+        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5();
+        result.strToNum(decimal);
+        return result;
+    }
+
+    @Override
+    public String format(jxy132330_Jun_Yu_BigNumber_5 a) {
+        return a.numToStr();
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 add(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+        return a.add(b);
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 subtract(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+        return a.subtract(b);
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 a, int b) {
+        return a.multiply(b);
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+        return a.multiply(b);
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 divide(jxy132330_Jun_Yu_BigNumber_5 a, int b) {
+        jxy132330_Jun_Yu_BigNumber_5 quotient = new jxy132330_Jun_Yu_BigNumber_5(a.getBase());
+        a.divideByInt(b, quotient);
+        return quotient;
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 divide(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+        return a.divide(b);
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 power(jxy132330_Jun_Yu_BigNumber_5 a, int exponent) {
+        return a.power(parse(Integer.toString(exponent)));
+    }
+
+    @Override
+    public jxy132330_Jun_Yu_BigNumber_5 sqrt(jxy132330_Jun_Yu_BigNumber_5 a) {
+        return a.sqrt();
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.evangileon.bignumber.benchmark;
+
+/**
+ * The operations under benchmark, implemented for BigNumber and for BigInteger as the baseline.
+ * BigNumber is in the default package, which can not be imported from a named package
+ * and JMH does not accept benchmarks in the default package, so it is reached through this interface
+ *
+ * @param <T> type of number
+ */
+public interface Arithmetic<T> {
+
+    /**
+     * Base of digits of the numbers parsed afterwards, ignored by a type without base
+     *
+     * @param base base of digits
+     */
+    void setBase(int base);
+
+    /**
+     * The number of threads a multiplication may use, ignored by a type that is always sequential
+     *
+     * @param parallelism the number of threads, 1 for sequential
+     */
+    void setParallelism(int parallelism);
+
+    T parse(String decimal);
+
+    String format(T a);
+
+    T add(T a, T b);
+
+    T subtract(T a, T b);
+
+    T multiply(T a, int b);
+
+    T multiply(T a, T b);
+
+    T divide(T a, int b);
+
+    T divide(T a, T b);
+
+    T power(T a, int exponent);
+
+    T sqrt(T a);
+}
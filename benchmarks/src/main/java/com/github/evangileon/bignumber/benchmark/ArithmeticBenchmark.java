@@ -0,0 +1,129 @@
+package com.github.evangileon.bignumber.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every arithmetic operation on random operands of the given number of decimal digits.
+ * The second operand of add, subtract and multiply is as long as the first, the divisor is half as long,
+ * power raises a number of at most 10 digits to digits / 10, so the result has about the given digits.
+ * The operands are the same for every implementation, seeded by the number of digits
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class ArithmeticBenchmark {
+
+    // the int operand of multiply and divide
+    private static final int SMALL = 9973;
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    public int digits;
+
+    private Arithmetic<Object> arithmetic;
+    private String text;
+    private Object a;
+    private Object b;
+    private Object divisor;
+    private Object root;
+    private int exponent;
+
+    /**
+     * @return the implementation to measure, configured by the parameters of the subclass
+     */
+    protected abstract Arithmetic<?> createArithmetic();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        arithmetic = (Arithmetic<Object>) createArithmetic();
+
+        Random random = new Random(digits);
+        text = randomDecimal(random, digits);
+        a = arithmetic.parse(text);
+        b = arithmetic.parse(randomDecimal(random, digits));
+        divisor = arithmetic.parse(randomDecimal(random, Math.max(1, digits / 2)));
+        root = arithmetic.parse(randomDecimal(random, Math.min(digits, 10)));
+        exponent = Math.max(1, digits / 10);
+    }
+
+    @Benchmark
+    public Object add() {
+        return arithmetic.add(a, b);
+    }
+
+    @Benchmark
+    public Object subtract() {
+        return arithmetic.subtract(a, b);
+    }
+
+    @Benchmark
+    public Object multiplyInt() {
+        return arithmetic.multiply(a, SMALL);
+    }
+
+    @Benchmark
+    public Object multiply() {
+        return arithmetic.multiply(a, b);
+    }
+
+    @Benchmark
+    public Object divideByInt() {
+        return arithmetic.divide(a, SMALL);
+    }
+
+    @Benchmark
+    public Object divide() {
+        return arithmetic.divide(a, divisor);
+    }
+
+    @Benchmark
+    public Object power() {
+        return arithmetic.power(root, exponent);
+    }
+
+    @Benchmark
+    public Object sqrt() {
+        return arithmetic.sqrt(a);
+    }
+
+    @Benchmark
+    public Object strToNum() {
+        return arithmetic.parse(text);
+    }
+
+    @Benchmark
+    public Object numToStr() {
+        return arithmetic.format(a);
+    }
+
+    /**
+     * @param random source of digits
+     * @param length the number of digits
+     * @return decimal string without leading zeros
+     */
+    static String randomDecimal(Random random, int length) {
+        char[] chars = new char[length];
+        chars[0] = (char) ('1' + random.nextInt(9));
+        for (int i = 1; i < length; i++) {
+            chars[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(chars);
+    }
+}
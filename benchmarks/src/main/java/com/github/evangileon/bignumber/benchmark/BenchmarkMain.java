@@ -0,0 +1,35 @@
+package com.github.evangileon.bignumber.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar, the command line of JMH with allocation profiling (-prof gc) on by default.
+ * <pre>
+ * mvn -B package
+ * java -jar benchmarks/target/benchmarks.jar                                # everything, takes hours
+ * java -jar benchmarks/target/benchmarks.jar multiply -p digits=1000,100000 # a subset
+ * java -jar benchmarks/target/benchmarks.jar -rf json -rff result.json      # to compare versions
+ * </pre>
+ * Any -prof option replaces the default profiler
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+                || options.shouldListProfilers() || options.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+        if (options.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.evangileon.bignumber.benchmark;
+
+import java.math.BigInteger;
+
+/**
+ * java.math.BigInteger as the baseline
+ */
+public class BigIntegerArithmetic implements Arithmetic<BigInteger> {
+
+    @Override
+    public void setBase(int base) {
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+    }
+
+    @Override
+    public BigInteger parse(String decimal) {
+        return new BigInteger(decimal);
+    }
+
+    @Override
+    public String format(BigInteger a) {
+        return a.toString();
+    }
+
+    @Override
+    public BigInteger add(BigInteger a, BigInteger b) {
+        return a.add(b);
+    }
+
+    @Override
+    public BigInteger subtract(BigInteger a, BigInteger b) {
+        return a.subtract(b);
+    }
+
+    @Override
+    public BigInteger multiply(BigInteger a, int b) {
+        return a.multiply(BigInteger.valueOf(b));
+    }
+
+    @Override
+    public BigInteger multiply(BigInteger a, BigInteger b) {
+        return a.multiply(b);
+    }
+
+    @Override
+    public BigInteger divide(BigInteger a, int b) {
+        return a.divide(BigInteger.valueOf(b));
+    }
+
+    @Override
+    public BigInteger divide(BigInteger a, BigInteger b) {
+        return a.divide(b);
+    }
+
+    @Override
+    public BigInteger power(BigInteger a, int exponent) {
+        return a.pow(exponent);
+    }
+
+    @Override
+    public BigInteger sqrt(BigInteger a) {
+        return a.sqrt();
+    }
+}
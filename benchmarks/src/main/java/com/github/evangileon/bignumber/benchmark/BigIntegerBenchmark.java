@@ -0,0 +1,12 @@
+package com.github.evangileon.bignumber.benchmark;
+
+/**
+ * java.math.BigInteger on the same operands, as the baseline
+ */
+public class BigIntegerBenchmark extends ArithmeticBenchmark {
+
+    @Override
+    protected Arithmetic<?> createArithmetic() {
+        return new BigIntegerArithmetic();
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.evangileon.bignumber.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * BigNumber for several values of specifiedBase, the operands are parsed after the base is set.
+ * Multiplication is sequential by default like BigInteger, -p parallelism=N measures the parallel sub-products
+ */
+public class BigNumberBenchmark extends ArithmeticBenchmark {
+
+    @Param({"32767", "10000", "10"})
+    public int base;
+
+    @Param({"1"})
+    public int parallelism;
+
+    @Override
+    protected Arithmetic<?> createArithmetic() {
+        Arithmetic<?> arithmetic;
+        try {
+            arithmetic = (Arithmetic<?>) Class.forName("BigNumberArithmetic").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("BigNumberArithmetic is not on the class path", e);
+        }
+        arithmetic.setBase(base);
+        arithmetic.setParallelism(parallelism);
+        return arithmetic;
+    }
+}
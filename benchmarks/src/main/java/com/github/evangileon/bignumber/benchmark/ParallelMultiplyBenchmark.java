@@ -0,0 +1,71 @@
+package com.github.evangileon.bignumber.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigNumber multiply and square of large operands for several values of parallelism,
+ * parallelism=1 is the sequential baseline. BigNumber is sequential by default,
+ * a machine should show a speedup here before raising it
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar ParallelMultiply -p parallelism=1,4
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelMultiplyBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int digits;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private Arithmetic<Object> arithmetic;
+    private Object a;
+    private Object b;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        try {
+            arithmetic = (Arithmetic<Object>) Class.forName("BigNumberArithmetic").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("BigNumberArithmetic is not on the class path", e);
+        }
+        arithmetic.setBase(32767);
+        arithmetic.setParallelism(parallelism);
+
+        Random random = new Random(digits);
+        a = arithmetic.parse(ArithmeticBenchmark.randomDecimal(random, digits));
+        b = arithmetic.parse(ArithmeticBenchmark.randomDecimal(random, digits));
+    }
+
+    @Benchmark
+    public Object multiply() {
+        return arithmetic.multiply(a, b);
+    }
+
+    @Benchmark
+    public Object square() {
+        // multiply of an operand by itself squares
+        return arithmetic.multiply(a, a);
+    }
+}
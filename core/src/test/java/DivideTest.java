@@ -0,0 +1,127 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * divideAndRemainder against java.math.BigInteger, for Knuth's long division, Burnikel-Ziegler
+ * and Newton's reciprocal. The thresholds are lowered so that every algorithm runs on short operands,
+ * and the largest case runs Newton's reciprocal at its default threshold
+ */
+class DivideTest {
+
+    private static final int[] BASES = {32767, 16384, 10000, 1000, 10, 7};
+
+    private int specifiedBase;
+    private int burnikelZieglerThreshold;
+    private int burnikelZieglerOffset;
+    private int newtonThreshold;
+
+    @BeforeEach
+    void saveSettings() {
+        specifiedBase = jxy132330_Jun_Yu_BigNumber_5.getSpecifiedBase();
+        burnikelZieglerThreshold = jxy132330_Jun_Yu_BigNumber_5.getBurnikelZieglerThreshold();
+        burnikelZieglerOffset = jxy132330_Jun_Yu_BigNumber_5.getBurnikelZieglerOffset();
+        newtonThreshold = jxy132330_Jun_Yu_BigNumber_5.getNewtonThreshold();
+    }
+
+    @AfterEach
+    void restoreSettings() {
+        jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(specifiedBase);
+        jxy132330_Jun_Yu_BigNumber_5.setBurnikelZieglerThreshold(burnikelZieglerThreshold);
+        jxy132330_Jun_Yu_BigNumber_5.setBurnikelZieglerOffset(burnikelZieglerOffset);
+        jxy132330_Jun_Yu_BigNumber_5.setNewtonThreshold(newtonThreshold);
+    }
+
+    @Test
+    void knuth() {
+        setThresholds(100000, 100000);
+        checkRandom(BASES, 600, 40);
+    }
+
+    @Test
+    void burnikelZiegler() {
+        setThresholds(4, 100000);
+        jxy132330_Jun_Yu_BigNumber_5.setBurnikelZieglerOffset(0);
+        checkRandom(BASES, 1500, 30);
+    }
+
+    @Test
+    void newtonLoweredThreshold() {
+        setThresholds(4, 16);
+        checkRandom(BASES, 1500, 30);
+    }
+
+    @Test
+    void newton() {
+        // a divisor of more than the default threshold of 8000 digits in base 32767
+        jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(32767);
+        Random random = new Random(8000);
+        int divisorBits = jxy132330_Jun_Yu_BigNumber_5.getNewtonThreshold() * 15 + 3000;
+        for (int i = 0; i < 3; i++) {
+            BigInteger b = new BigInteger(divisorBits, random).setBit(divisorBits - 1);
+            BigInteger q = new BigInteger(divisorBits + random.nextInt(divisorBits), random);
+            check(q.multiply(b).add(new BigInteger(divisorBits - 1, random)), b, "newton " + i);
+            // the largest remainder and no remainder, where the estimate is most often corrected
+            check(q.multiply(b).add(b).subtract(BigInteger.ONE), b.negate(), "newton largest remainder " + i);
+            check(q.multiply(b).negate(), b, "newton exact " + i);
+        }
+    }
+
+    private static void setThresholds(int burnikelZiegler, int newton) {
+        jxy132330_Jun_Yu_BigNumber_5.setBurnikelZieglerThreshold(burnikelZiegler);
+        jxy132330_Jun_Yu_BigNumber_5.setNewtonThreshold(newton);
+    }
+
+    /**
+     * Random dividends of up to maxDigits decimal digits and divisors of up to the same length,
+     * with quotients and remainders at their edges
+     */
+    private static void checkRandom(int[] bases, int maxDigits, int iterations) {
+        Random random = new Random(maxDigits);
+        int maxBits = (int) (maxDigits * 3.33);
+        for (int base : bases) {
+            jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(base);
+            for (int i = 0; i < iterations; i++) {
+                BigInteger b = new BigInteger(1 + random.nextInt(maxBits / 2), random).add(BigInteger.ONE);
+                BigInteger q = new BigInteger(1 + random.nextInt(maxBits / 2), random);
+                BigInteger a;
+                switch (i % 4) {
+                    case 0:
+                        a = q.multiply(b);
+                        break;
+                    case 1:
+                        a = q.multiply(b).add(b).subtract(BigInteger.ONE);
+                        break;
+                    case 2:
+                        // shorter than the divisor
+                        a = b.shiftRight(1 + random.nextInt(b.bitLength()));
+                        break;
+                    default:
+                        a = new BigInteger(1 + random.nextInt(maxBits), random);
+                        break;
+                }
+                if (random.nextBoolean()) {
+                    a = a.negate();
+                }
+                if (random.nextBoolean()) {
+                    b = b.negate();
+                }
+                check(a, b, "base " + base + ", " + a.bitLength() + " / " + b.bitLength() + " bits");
+            }
+        }
+    }
+
+    private static void check(BigInteger a, BigInteger b, String message) {
+        jxy132330_Jun_Yu_BigNumber_5 x = new jxy132330_Jun_Yu_BigNumber_5(a.toString());
+        jxy132330_Jun_Yu_BigNumber_5 y = new jxy132330_Jun_Yu_BigNumber_5(b.toString());
+        BigInteger[] expected = a.divideAndRemainder(b);
+        jxy132330_Jun_Yu_BigNumber_5[] actual = x.divideAndRemainder(y);
+        assertEquals(expected[0].toString(), actual[0].numToStr(), message);
+        assertEquals(expected[1].toString(), actual[1].numToStr(), message);
+    }
+}
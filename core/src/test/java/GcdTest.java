@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * gcd, extendedGcd and modInverse against java.math.BigInteger.
+ * Operands share a random factor so that the gcd is not almost always 1,
+ * the half GCD runs above its default threshold and on short operands with the threshold lowered
+ */
+class GcdTest {
+
+    private static final int[] BASES = {32767, 16384, 10000, 1000, 10, 7};
+
+    private int specifiedBase;
+    private int halfGcdThreshold;
+
+    @BeforeEach
+    void saveSettings() {
+        specifiedBase = jxy132330_Jun_Yu_BigNumber_5.getSpecifiedBase();
+        halfGcdThreshold = jxy132330_Jun_Yu_BigNumber_5.getHalfGcdThreshold();
+    }
+
+    @AfterEach
+    void restoreSettings() {
+        jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(specifiedBase);
+        jxy132330_Jun_Yu_BigNumber_5.setHalfGcdThreshold(halfGcdThreshold);
+    }
+
+    @Test
+    void lehmer() {
+        jxy132330_Jun_Yu_BigNumber_5.setHalfGcdThreshold(100000);
+        checkRandom(BASES, 600, 40);
+    }
+
+    @Test
+    void halfGcdLoweredThreshold() {
+        jxy132330_Jun_Yu_BigNumber_5.setHalfGcdThreshold(16);
+        checkRandom(BASES, 600, 40);
+    }
+
+    @Test
+    void halfGcd() {
+        // both operands above the default threshold in base 32767, and far above it in base 10
+        int bits = jxy132330_Jun_Yu_BigNumber_5.getHalfGcdThreshold() * 15 + 1500;
+        Random random = new Random(bits);
+        for (int base : new int[]{32767, 10}) {
+            jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(base);
+            for (int i = 0; i < 4; i++) {
+                BigInteger factor = i == 0 ? BigInteger.ONE : new BigInteger(bits / 3, random);
+                BigInteger a = new BigInteger(bits, random).multiply(factor);
+                BigInteger b = new BigInteger(bits, random).setBit(bits - 1).multiply(factor);
+                check(i % 2 == 0 ? a : a.negate(), b, "base " + base + ", half GCD " + i);
+            }
+        }
+    }
+
+    @Test
+    void smallOperands() {
+        jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(10);
+        long[][] pairs = {{0, 0}, {0, 7}, {7, 0}, {1, 1}, {12, 18}, {-12, 18}, {12, -18}, {-12, -18}, {17, 5}};
+        for (long[] pair : pairs) {
+            check(BigInteger.valueOf(pair[0]), BigInteger.valueOf(pair[1]), "");
+        }
+    }
+
+    /**
+     * Random operands of up to maxDigits decimal digits, with a random common factor of up to half of them
+     */
+    private static void checkRandom(int[] bases, int maxDigits, int iterations) {
+        Random random = new Random(maxDigits);
+        int maxBits = (int) (maxDigits * 3.33);
+        for (int base : bases) {
+            jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(base);
+            for (int i = 0; i < iterations; i++) {
+                BigInteger factor = new BigInteger(1 + random.nextInt(maxBits / 2), random);
+                BigInteger a = new BigInteger(1 + random.nextInt(maxBits / 2), random).multiply(factor);
+                BigInteger b = new BigInteger(1 + random.nextInt(maxBits / 2), random).multiply(factor);
+                if (i % 4 == 0) {
+                    // coprime more often than not, so that the modular inverse exists
+                    a = a.divide(factor.max(BigInteger.ONE)).add(BigInteger.ONE);
+                }
+                if (random.nextBoolean()) {
+                    a = a.negate();
+                }
+                check(a, b, "base " + base + ", " + a.bitLength() + " and " + b.bitLength() + " bits");
+            }
+        }
+    }
+
+    private static void check(BigInteger a, BigInteger b, String message) {
+        jxy132330_Jun_Yu_BigNumber_5 x = new jxy132330_Jun_Yu_BigNumber_5(a.toString());
+        jxy132330_Jun_Yu_BigNumber_5 y = new jxy132330_Jun_Yu_BigNumber_5(b.toString());
+        BigInteger g = a.gcd(b);
+        assertEquals(g.toString(), x.gcd(y).numToStr(), message);
+        assertEquals(g.toString(), y.gcd(x).numToStr(), message);
+
+        // s * a + t * b = g
+        jxy132330_Jun_Yu_BigNumber_5[] gst = x.extendedGcd(y);
+        assertEquals(g.toString(), gst[0].numToStr(), message);
+        BigInteger s = new BigInteger(gst[1].numToStr());
+        BigInteger t = new BigInteger(gst[2].numToStr());
+        assertEquals(g, s.multiply(a).add(t.multiply(b)), message);
+
+        if (b.signum() > 0) {
+            if (g.equals(BigInteger.ONE)) {
+                assertEquals(a.modInverse(b).toString(), x.modInverse(y).numToStr(), message);
+            } else {
+                assertThrows(ArithmeticException.class, () -> x.modInverse(y), message);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The programs of executeLoop compiled by LoopCompiler against the interpreter of LoopProgram,
+ * both must print the same lines. The programs reach the limits of the class file:
+ * jumps past the end, locals above 255 that need wide, and programs longer than 16 bits branch offsets,
+ * which LoopCompiler.run leaves to the interpreter
+ */
+class LoopCompilerTest {
+
+    @Test
+    void arithmetic() {
+        assertSameOutput(Arrays.asList(
+                "a=123456789012345678901234567890",
+                "b=987654",
+                "c=a*b",
+                "c",
+                "d=c-a",
+                "d",
+                "e=a/b",
+                "e",
+                "f=a%b",
+                "f",
+                "i=30",
+                "g=b^i",
+                "g",
+                "h=g~",
+                "h",
+                "m=1000000007",
+                "p=a^b%m",
+                "p",
+                "n=20",
+                "k=5",
+                "q=n!",
+                "q",
+                "r=n#k",
+                "r"), true);
+    }
+
+    @Test
+    void loops() {
+        // 2 ^ 10 by a counted loop, then the same counter again as a loop that prints every step
+        assertSameOutput(Arrays.asList(
+                "x=1",
+                "t=2",
+                "i=10",
+                "j=1",
+                "x=x*t",
+                "i=i-j",
+                "i?5",
+                "x",
+                "i=3",
+                "i",
+                "i=i-j",
+                "i?10"), true);
+    }
+
+    @Test
+    void jumpPastTheEnd() {
+        assertSameOutput(Arrays.asList(
+                "x=5",
+                "x",
+                "x?100",
+                "x"), true);
+        assertSameOutput(Arrays.asList(
+                "x=5",
+                "x?5",
+                "x",
+                "x"), true);
+    }
+
+    @Test
+    void invalidLines() {
+        assertSameOutput(Arrays.asList(
+                "x=5",
+                "x",
+                "y=x",
+                "x"), false);
+        assertSameOutput(Arrays.asList(
+                "x=5",
+                "x",
+                "y=x=x",
+                "x"), false);
+        assertSameOutput(Arrays.asList(
+                "x=5",
+                "x",
+                "y=12a4",
+                "x"), false);
+    }
+
+    @Test
+    void manyVariables() {
+        // 300 variables, locals above 255 are loaded and stored with wide
+        List<String> lines = new ArrayList<String>();
+        int count = 300;
+        for (int i = 0; i < count; i++) {
+            lines.add("v" + i + "=" + (i + 1));
+        }
+        lines.add("s=v0+v1");
+        for (int i = 2; i < count; i++) {
+            lines.add("s=s+v" + i);
+        }
+        lines.add("s");
+        lines.add("v299=v299-v0");
+        lines.add("v299?" + (count + 1));
+        lines.add("v299");
+        assertSameOutput(lines, true);
+    }
+
+    @Test
+    void manyLines() {
+        // the jump back spans more than 32767 lines, so more than 16 bits branch offsets
+        List<String> lines = new ArrayList<String>();
+        lines.add("i=3");
+        lines.add("j=1");
+        lines.add("s=1");
+        for (int line = 0; line < 33000; line++) {
+            lines.add("s=s+j");
+        }
+        lines.add("s");
+        lines.add("i=i-j");
+        lines.add("i?4");
+        lines.add("s");
+        assertSameOutput(lines, false);
+    }
+
+    /**
+     * Run the program both ways and compare the output
+     *
+     * @param lines    lines of the program from line 1
+     * @param compiles whether LoopCompiler must compile it instead of leaving it to the interpreter
+     */
+    private static void assertSameOutput(List<String> lines, boolean compiles) {
+        ArrayList<String> exprTable = new ArrayList<String>();
+        // exprTable[0] unused
+        exprTable.add("");
+        exprTable.addAll(lines);
+
+        String interpreted = run(jxy132330_Jun_Yu_BigNumber_5.LoopProgram.compile(exprTable), false);
+        jxy132330_Jun_Yu_BigNumber_5.LoopProgram program = jxy132330_Jun_Yu_BigNumber_5.LoopProgram.compile(exprTable);
+        if (compiles) {
+            assertNotNull(jxy132330_Jun_Yu_BigNumber_5.LoopCompiler.compile(program));
+        }
+        assertEquals(interpreted, run(program, true));
+    }
+
+    /**
+     * @return stdout of the program, and the message of a NumberFormatException that stopped it
+     */
+    private static String run(jxy132330_Jun_Yu_BigNumber_5.LoopProgram program, boolean compiled) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            if (compiled) {
+                jxy132330_Jun_Yu_BigNumber_5.LoopCompiler.run(program);
+            } else {
+                program.run();
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("NumberFormatException: " + e.getMessage());
+        } finally {
+            System.setOut(out);
+        }
+        return bytes.toString();
+    }
+}
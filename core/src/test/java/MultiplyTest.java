@@ -0,0 +1,205 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * multiply and square against java.math.BigInteger.
+ * The thresholds are lowered so that every algorithm runs on operands of a few hundred digits,
+ * and the largest case checks the number theoretic transform at millions of decimal digits
+ */
+class MultiplyTest {
+
+    private static final int[] BASES = {32767, 16384, 10000, 1000, 10, 7};
+    // 2 ^ 14, the digits map to bits directly
+    private static final int BINARY_BASE = 16384;
+    private static final int BINARY_BITS = 14;
+
+    private int specifiedBase;
+    private int karatsubaThreshold;
+    private int toomCookThreshold;
+    private int fftThreshold;
+    private int parallelism;
+    private int parallelThreshold;
+
+    @BeforeEach
+    void saveSettings() {
+        specifiedBase = jxy132330_Jun_Yu_BigNumber_5.getSpecifiedBase();
+        karatsubaThreshold = jxy132330_Jun_Yu_BigNumber_5.getKaratsubaThreshold();
+        toomCookThreshold = jxy132330_Jun_Yu_BigNumber_5.getToomCookThreshold();
+        fftThreshold = jxy132330_Jun_Yu_BigNumber_5.getFftThreshold();
+        parallelism = jxy132330_Jun_Yu_BigNumber_5.getParallelism();
+        parallelThreshold = jxy132330_Jun_Yu_BigNumber_5.getParallelThreshold();
+        jxy132330_Jun_Yu_BigNumber_5.setParallelism(1);
+    }
+
+    @AfterEach
+    void restoreSettings() {
+        jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(specifiedBase);
+        jxy132330_Jun_Yu_BigNumber_5.setKaratsubaThreshold(karatsubaThreshold);
+        jxy132330_Jun_Yu_BigNumber_5.setToomCookThreshold(toomCookThreshold);
+        jxy132330_Jun_Yu_BigNumber_5.setFftThreshold(fftThreshold);
+        jxy132330_Jun_Yu_BigNumber_5.setParallelism(parallelism);
+        jxy132330_Jun_Yu_BigNumber_5.setParallelThreshold(parallelThreshold);
+    }
+
+    @Test
+    void schoolbook() {
+        setThresholds(100000, 100000, 100000);
+        checkRandom(600, 40);
+    }
+
+    @Test
+    void karatsuba() {
+        setThresholds(4, 100000, 100000);
+        checkRandom(1500, 40);
+    }
+
+    @Test
+    void toomCook() {
+        setThresholds(4, 9, 100000);
+        checkRandom(1500, 40);
+    }
+
+    @Test
+    void fft() {
+        setThresholds(4, 9, 16);
+        checkRandom(1500, 40);
+    }
+
+    @Test
+    void aroundThresholds() {
+        // Karatsuba and Toom-Cook recurse into each other and into the schoolbook at these sizes
+        setThresholds(20, 60, 200);
+        checkRandom(4000, 60);
+    }
+
+    @Test
+    void parallel() {
+        setThresholds(20, 60, 100000);
+        jxy132330_Jun_Yu_BigNumber_5.setParallelism(4);
+        jxy132330_Jun_Yu_BigNumber_5.setParallelThreshold(120);
+        checkRandom(4000, 20);
+    }
+
+    @Test
+    void millionsOfDigits() {
+        // about 2.1 million decimal digits each, the product has 4.2 million
+        Random random = new Random(11);
+        BigInteger a = new BigInteger(7000000, random);
+        BigInteger b = new BigInteger(7000000, random).negate();
+        jxy132330_Jun_Yu_BigNumber_5 x = fromBigInteger(a);
+        jxy132330_Jun_Yu_BigNumber_5 y = fromBigInteger(b);
+
+        assertEquals(a.multiply(b), toBigInteger(x.multiply(y)));
+        assertEquals(a.multiply(a), toBigInteger(x.square()));
+
+        // base 32767 has the largest coefficients for the Chinese remaindering of the transform
+        jxy132330_Jun_Yu_BigNumber_5 product = x.toBase(32767).multiply(y.toBase(32767));
+        assertEquals(a.multiply(b), toBigInteger(product.toBase(BINARY_BASE)));
+    }
+
+    private static void setThresholds(int karatsuba, int toomCook, int fft) {
+        jxy132330_Jun_Yu_BigNumber_5.setKaratsubaThreshold(karatsuba);
+        jxy132330_Jun_Yu_BigNumber_5.setToomCookThreshold(toomCook);
+        jxy132330_Jun_Yu_BigNumber_5.setFftThreshold(fft);
+    }
+
+    /**
+     * Random operands of up to maxDigits decimal digits in every base, of equal and of unequal lengths
+     */
+    private static void checkRandom(int maxDigits, int iterations) {
+        Random random = new Random(maxDigits);
+        int maxBits = (int) (maxDigits * 3.33);
+        for (int base : BASES) {
+            jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(base);
+            for (int i = 0; i < iterations; i++) {
+                BigInteger a = new BigInteger(1 + random.nextInt(maxBits), random);
+                BigInteger b = i % 3 == 0 ? new BigInteger(1 + random.nextInt(maxBits / 8 + 1), random)
+                        : new BigInteger(1 + random.nextInt(maxBits), random);
+                if (random.nextBoolean()) {
+                    a = a.negate();
+                }
+                if (random.nextBoolean()) {
+                    b = b.negate();
+                }
+
+                jxy132330_Jun_Yu_BigNumber_5 x = new jxy132330_Jun_Yu_BigNumber_5(a.toString());
+                jxy132330_Jun_Yu_BigNumber_5 y = new jxy132330_Jun_Yu_BigNumber_5(b.toString());
+                String message = "base " + base + ", " + a.bitLength() + " x " + b.bitLength() + " bits";
+                assertEquals(a.multiply(b).toString(), x.multiply(y).numToStr(), message);
+                assertEquals(b.multiply(a).toString(), y.multiply(x).numToStr(), message);
+                assertEquals(a.multiply(a).toString(), x.square().numToStr(), message);
+                assertEquals(a.multiply(a).toString(), x.multiply(x).numToStr(), message);
+            }
+        }
+    }
+
+    /**
+     * Number in base 2 ^ 14 from the bits of value, through the fixed binary form
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 fromBigInteger(BigInteger value) {
+        byte[] bytes = value.abs().toByteArray();
+        int length = (value.abs().bitLength() + BINARY_BITS - 1) / BINARY_BITS;
+        ByteBuffer buffer = ByteBuffer.allocate(7 + 2 * length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) (value.signum() < 0 ? 1 : 0)).putShort((short) BINARY_BASE).putInt(length);
+
+        long pending = 0;
+        int pendingBits = 0;
+        int written = 0;
+        for (int i = bytes.length - 1; i >= 0 && written < length; i--) {
+            pending |= (long) (bytes[i] & 0xFF) << pendingBits;
+            pendingBits += 8;
+            while (pendingBits >= BINARY_BITS && written < length) {
+                buffer.putShort((short) (pending & (BINARY_BASE - 1)));
+                pending >>>= BINARY_BITS;
+                pendingBits -= BINARY_BITS;
+                written++;
+            }
+        }
+        if (written < length) {
+            buffer.putShort((short) pending);
+        }
+
+        buffer.flip();
+        return jxy132330_Jun_Yu_BigNumber_5.readFrom(buffer);
+    }
+
+    /**
+     * Value of a number in base 2 ^ 14, through the fixed binary form
+     */
+    private static BigInteger toBigInteger(jxy132330_Jun_Yu_BigNumber_5 x) {
+        assertEquals(BINARY_BASE, x.getBase());
+        ByteBuffer buffer = ByteBuffer.wrap(x.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        boolean negative = (buffer.get() & 1) != 0;
+        buffer.getShort();
+        int length = buffer.getInt();
+
+        // big endian bytes of the magnitude, with a leading zero byte for the sign
+        byte[] bytes = new byte[(int) (((long) length * BINARY_BITS + 7) / 8) + 1];
+        long pending = 0;
+        int pendingBits = 0;
+        int index = bytes.length - 1;
+        for (int i = 0; i < length; i++) {
+            pending |= (long) (buffer.getShort() & 0xFFFF) << pendingBits;
+            pendingBits += BINARY_BITS;
+            while (pendingBits >= 8) {
+                bytes[index--] = (byte) pending;
+                pending >>>= 8;
+                pendingBits -= 8;
+            }
+        }
+        if (pendingBits > 0) {
+            bytes[index] = (byte) pending;
+        }
+
+        BigInteger magnitude = new BigInteger(bytes);
+        return negative ? magnitude.negate() : magnitude;
+    }
+}
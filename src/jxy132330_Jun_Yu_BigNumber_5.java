@@ -3,14 +3,53 @@
  */
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
 
 public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu_BigNumber_5> {
 
     private final int base;
-    private LinkedList<Integer> digitList;
+    // digits of the magnitude, least significant first, only [0, numDigits) is meaningful
+    private int[] digits;
+    private int numDigits;
     private boolean negative = false;
 
     // The larger the better under restriction that the square of base will not overflow
@@ -21,6 +60,80 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
 
     private static int specifiedBase = optimalBase;
 
+    private static final int[] EMPTY_DIGITS = new int[0];
+
+    // decimal digits converted at a time, 10 ^ 9 is the largest power of ten fits in int
+    private static final int DECIMAL_CHUNK_LENGTH = 9;
+    private static final int[] INT_POWERS_OF_TEN = {
+            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+    // binary form, flags of 1 byte, base of 2 bytes and the number of digits of 4 bytes, then 2 bytes per digit
+    private static final int BINARY_HEADER_SIZE = 7;
+    private static final int BINARY_NEGATIVE = 1;
+    private static final int BINARY_VARINT = 2;
+    // digits of the fixed form copied at a time, and written at a time to a channel
+    private static final int BINARY_CHUNK_DIGITS = 1 << 12;
+    // cached radix ^ (2 ^ level) and their Newton reciprocals, keyed by radix, base and level
+    private static final RadixPowerCache RADIX_POWERS = new RadixPowerCache(1L << 24);
+
+    // the number of digits of the shorter operand above which multiply uses Karatsuba
+    private static int karatsubaThreshold = 80;
+    // the number of digits of the shorter operand above which multiply uses Toom-Cook 3-way
+    private static int toomCookThreshold = 240;
+    // the number of digits of the shorter operand above which multiply uses number theoretic transform
+    private static int fftThreshold = 800;
+    // the number of digits of divisor above which divide uses Burnikel-Ziegler
+    private static int burnikelZieglerThreshold = 80;
+    // how many digits the dividend must be longer than the divisor to use Burnikel-Ziegler
+    private static int burnikelZieglerOffset = 40;
+    // the number of digits of divisor above which divide uses Newton reciprocal
+    private static int newtonThreshold = 8000;
+    // the number of decimal chars above which strToNum splits the string
+    private static int parseThreshold = 1000;
+    // the number of digits above which absoluteNumToStr splits the number
+    private static int formatThreshold = 200;
+    // the number of digits above which toBase splits the number
+    private static int conversionThreshold = 200;
+    // the number of threads multiply and square may use, 1 means sequential;
+    // sequential by default, raise it where ParallelMultiplyBenchmark shows a speedup
+    private static int parallelism = 1;
+    // the number of digits of the shorter operand above which the sub-products are computed in parallel
+    private static int parallelThreshold = 10000;
+    // created on first use, replaced when parallelism changes
+    private static volatile ForkJoinPool parallelPool;
+    // whether executeLoop compiles the program to a hidden class instead of interpreting it
+    private static boolean loopJit = false;
+    // bytes of free scratch arrays every thread may keep for the next operation
+    private static long scratchRetainedLimit = 1L << 27;
+    // the number of digits above which power and maximumPowerIn15Secs continue in mapped off heap numbers,
+    // squaring on the heap takes about 200 bytes per digit with the transforms
+    private static int offHeapThreshold = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 256);
+    // whether the operations are counted and timed, set from another thread through JMX
+    private static volatile boolean metricsEnabled = Boolean.getBoolean("bignumber.metrics");
+    // operations taking at least this long are counted as slow and emit a flight recorder event
+    private static volatile long slowOperationNanos = 10000000L;
+
+    // the number of bits of exponent taken at a time by modPow
+    private static final int EXPONENT_WORD_BITS = 30;
+    // the largest exponent bit length for every window size of modPow, from java.math.BigInteger
+    private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793};
+    // the number of digits of modulus above which modPow reduces by Barrett's reduction even if Montgomery applies
+    private static int montgomeryThreshold = 800;
+
+    // the number of digits of the shorter operand above which gcd reduces by half GCD instead of Lehmer's steps
+    private static int halfGcdThreshold = 800;
+    // bound of the cofactors of a Lehmer's step, so that a cofactor times a digit plus carries fits in long
+    private static final long LEHMER_COFACTOR_LIMIT = 1L << 46;
+
+    // primes of the form c * 2 ^ k + 1 for number theoretic transform, and their primitive roots,
+    // the product of the primes is larger than every coefficient of a product up to 2 ^ 26 digits
+    private static final long FFT_PRIME1 = 2013265921L;
+    private static final long FFT_ROOT1 = 31;
+    private static final long FFT_PRIME2 = 1811939329L;
+    private static final long FFT_ROOT2 = 13;
+    private static final int FFT_MAX_LENGTH = 1 << 26;
+    // inverse of FFT_PRIME1 modulo FFT_PRIME2, for Chinese remaindering
+    private static final long FFT_PRIME1_INVERSE = modPowLong(FFT_PRIME1 % FFT_PRIME2, FFT_PRIME2 - 2, FFT_PRIME2);
+
     public static void setSpecifiedBase(int specifiedBase) {
         jxy132330_Jun_Yu_BigNumber_5.specifiedBase = specifiedBase;
     }
@@ -29,6 +142,186 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
         return specifiedBase;
     }
 
+    public static void setKaratsubaThreshold(int karatsubaThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.karatsubaThreshold = Math.max(4, karatsubaThreshold);
+    }
+
+    public static int getKaratsubaThreshold() {
+        return karatsubaThreshold;
+    }
+
+    public static void setToomCookThreshold(int toomCookThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.toomCookThreshold = Math.max(9, toomCookThreshold);
+    }
+
+    public static int getToomCookThreshold() {
+        return toomCookThreshold;
+    }
+
+    public static void setFftThreshold(int fftThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.fftThreshold = Math.max(1, fftThreshold);
+    }
+
+    public static int getFftThreshold() {
+        return fftThreshold;
+    }
+
+    public static void setBurnikelZieglerThreshold(int burnikelZieglerThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.burnikelZieglerThreshold = Math.max(2, burnikelZieglerThreshold);
+    }
+
+    public static int getBurnikelZieglerThreshold() {
+        return burnikelZieglerThreshold;
+    }
+
+    public static void setBurnikelZieglerOffset(int burnikelZieglerOffset) {
+        jxy132330_Jun_Yu_BigNumber_5.burnikelZieglerOffset = Math.max(0, burnikelZieglerOffset);
+    }
+
+    public static int getBurnikelZieglerOffset() {
+        return burnikelZieglerOffset;
+    }
+
+    public static void setNewtonThreshold(int newtonThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.newtonThreshold = Math.max(2, newtonThreshold);
+    }
+
+    public static int getNewtonThreshold() {
+        return newtonThreshold;
+    }
+
+    public static void setParseThreshold(int parseThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.parseThreshold = Math.max(DECIMAL_CHUNK_LENGTH, parseThreshold);
+    }
+
+    public static int getParseThreshold() {
+        return parseThreshold;
+    }
+
+    public static void setFormatThreshold(int formatThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.formatThreshold = Math.max(8, formatThreshold);
+    }
+
+    public static int getFormatThreshold() {
+        return formatThreshold;
+    }
+
+    public static void setConversionThreshold(int conversionThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.conversionThreshold = Math.max(8, conversionThreshold);
+    }
+
+    public static int getConversionThreshold() {
+        return conversionThreshold;
+    }
+
+    public static synchronized void setParallelism(int parallelism) {
+        jxy132330_Jun_Yu_BigNumber_5.parallelism = Math.max(1, parallelism);
+        // not shut down, another thread may be about to invoke it;
+        // the old pool finishes what it runs and its idle workers exit after the keep alive time
+        parallelPool = null;
+    }
+
+    public static int getParallelism() {
+        return parallelism;
+    }
+
+    public static void setParallelThreshold(int parallelThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.parallelThreshold = Math.max(2 * toomCookThreshold, parallelThreshold);
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static void setRadixCacheLimit(long radixCacheLimit) {
+        RADIX_POWERS.setLimit(Math.max(0, radixCacheLimit));
+    }
+
+    public static long getRadixCacheLimit() {
+        return RADIX_POWERS.getLimit();
+    }
+
+    public static void setLoopJit(boolean loopJit) {
+        jxy132330_Jun_Yu_BigNumber_5.loopJit = loopJit;
+    }
+
+    public static boolean isLoopJit() {
+        return loopJit;
+    }
+
+    public static void setMontgomeryThreshold(int montgomeryThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.montgomeryThreshold = Math.max(1, montgomeryThreshold);
+    }
+
+    public static int getMontgomeryThreshold() {
+        return montgomeryThreshold;
+    }
+
+    public static void setHalfGcdThreshold(int halfGcdThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.halfGcdThreshold = Math.max(16, halfGcdThreshold);
+    }
+
+    public static int getHalfGcdThreshold() {
+        return halfGcdThreshold;
+    }
+
+    public static long getScratchHits() {
+        return ScratchArena.HITS.sum();
+    }
+
+    public static long getScratchMisses() {
+        return ScratchArena.MISSES.sum();
+    }
+
+    public static void setScratchRetainedLimit(long scratchRetainedLimit) {
+        jxy132330_Jun_Yu_BigNumber_5.scratchRetainedLimit = Math.max(0, scratchRetainedLimit);
+        trimScratch();
+    }
+
+    public static long getScratchRetainedLimit() {
+        return scratchRetainedLimit;
+    }
+
+    public static void setOffHeapThreshold(int offHeapThreshold) {
+        jxy132330_Jun_Yu_BigNumber_5.offHeapThreshold = Math.max(1, offHeapThreshold);
+    }
+
+    public static int getOffHeapThreshold() {
+        return offHeapThreshold;
+    }
+
+    /**
+     * Drop the free scratch arrays of every thread, each thread lets them go when it next opens a scope;
+     * the arrays of a thread that never computes again are kept until it ends
+     */
+    public static void trimScratch() {
+        ScratchArena.TRIMS.incrementAndGet();
+    }
+
+    public static void setMetricsEnabled(boolean metricsEnabled) {
+        if (metricsEnabled) {
+            // registers the MBean
+            getMetrics();
+        }
+        jxy132330_Jun_Yu_BigNumber_5.metricsEnabled = metricsEnabled;
+    }
+
+    public static boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public static void setSlowOperationNanos(long slowOperationNanos) {
+        jxy132330_Jun_Yu_BigNumber_5.slowOperationNanos = Math.max(0, slowOperationNanos);
+    }
+
+    public static long getSlowOperationNanos() {
+        return slowOperationNanos;
+    }
+
+    public static MetricsMXBean getMetrics() {
+        return Metrics.INSTANCE;
+    }
+
     public static jxy132330_Jun_Yu_BigNumber_5 BigNumberWithOptimalBase() {
         return new jxy132330_Jun_Yu_BigNumber_5(optimalBase);
     }
@@ -43,12 +336,13 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
         }
 
         this.base = base;
-        digitList = new LinkedList<Integer>();
+        digits = EMPTY_DIGITS;
     }
 
     public jxy132330_Jun_Yu_BigNumber_5(jxy132330_Jun_Yu_BigNumber_5 other) {
         this(other.getBase());
-        this.getDigitList().addAll(other.getDigitList());
+        this.digits = Arrays.copyOf(other.digits, other.numDigits);
+        this.numDigits = other.numDigits;
         this.negative = other.negative;
     }
 
@@ -58,29 +352,66 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
     }
 
     public void printList() {
-        System.out.println(digitList);
+        System.out.println(getDigitList());
     }
 
     public int getBase() {
         return base;
     }
 
+    /**
+     * Compatibility view of the digits, least significant first.
+     * The list is a copy, modifying it does not affect this big number
+     *
+     * @return list of digits
+     */
     public LinkedList<Integer> getDigitList() {
-        return digitList;
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        for (int i = 0; i < numDigits; i++) {
+            list.add(digits[i]);
+        }
+        return list;
     }
 
     private void setDigitFromLeast(int index, int value) {
-        if (index >= this.digitList.size() || value < 0) {
+        if (index >= this.numDigits || value < 0) {
             return;
         }
-        this.digitList.set(index, value);
+        this.digits[index] = value;
     }
 
     private void setDigitFromMost(int index, int value) {
-        if (index >= this.digitList.size() || value < 0) {
+        if (index >= this.numDigits || value < 0) {
             return;
         }
-        this.digitList.set(this.digitList.size() - 1 - index, value);
+        this.digits[this.numDigits - 1 - index] = value;
+    }
+
+    /**
+     * Make sure the digit array can hold at least capacity digits
+     *
+     * @param capacity the number of digits
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > digits.length) {
+            digits = Arrays.copyOf(digits, Math.max(capacity, digits.length + (digits.length >> 1) + 1));
+        }
+    }
+
+    /**
+     * Build a big number directly upon a digit array, the array is taken over without copy
+     *
+     * @param base      base of digits
+     * @param digits    digits, least significant first
+     * @param numDigits the number of meaningful digits
+     * @return big number, top zeros trimmed
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 fromDigits(int base, int[] digits, int numDigits) {
+        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(base);
+        result.digits = digits;
+        result.numDigits = numDigits;
+        result.trimTopZeros();
+        return result;
     }
 
     public boolean isNegative() {
@@ -95,17 +426,11 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
      * Trim the zeros at tail of linked list
      */
     private void trimTopZeros() {
-        Iterator<Integer> itor = this.digitDescendingIterator();
-
-        while (itor.hasNext()) {
-            if (itor.next() == 0) {
-                itor.remove();
-            } else {
-                return;
-            }
+        while (numDigits > 0 && digits[numDigits - 1] == 0) {
+            numDigits--;
         }
 
-        if (this.getDigitList().size() == 0) {
+        if (numDigits == 0) {
             this.negative = false;
         }
     }
@@ -117,13 +442,20 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
 
         jxy132330_Jun_Yu_BigNumber_5 bigNumber = (jxy132330_Jun_Yu_BigNumber_5) o;
 
-        return negative == bigNumber.negative && base == bigNumber.base && digitList.equals(bigNumber.digitList);
+        if (negative != bigNumber.negative || base != bigNumber.base || numDigits != bigNumber.numDigits) {
+            return false;
+        }
+        return compareMagnitude(digits, numDigits, bigNumber.digits, bigNumber.numDigits) == 0;
     }
 
     @Override
     public int hashCode() {
+        int digitsHash = 1;
+        for (int i = 0; i < numDigits; i++) {
+            digitsHash = 31 * digitsHash + digits[i];
+        }
         int result = base;
-        result = 31 * result + digitList.hashCode();
+        result = 31 * result + digitsHash;
         return result;
     }
 
@@ -135,7 +467,7 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
      * @return whether this is zero
      */
     public boolean isZero() {
-        return this.getDigitList().isEmpty();
+        return this.numDigits == 0;
     }
 
     /**
@@ -159,91 +491,97 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
             return false;
         }
 
-        int carry = 0;
-        //int least = 0;
-        int digit = 0;
-        int remnant = 0;
-        Iterator<Integer> itor = this.digitDescendingIterator();
-        while (itor.hasNext()) {
-            digit = itor.next();
-            remnant = (carry + digit) % 2;
-            if (remnant > 0) {
-                carry = this.base * remnant;
-            } else {
-                carry = 0;
-            }
+        if ((this.base & 1) == 0) {
+            // even base, only the least significant digit matters
+            return (digits[0] & 1) == 1;
         }
 
-        return (remnant > 0);
+        // odd base, base ^ i is always odd, so the parity is the parity of the sum of digits
+        int parity = 0;
+        for (int i = 0; i < numDigits; i++) {
+            parity ^= digits[i] & 1;
+        }
+        return parity == 1;
     }
 
     public Iterator<Integer> digitIterator() {
-        return new DigitIterator(digitList);
+        return new DigitIterator();
     }
 
     public int getNumDigit() {
-        return this.digitList.size();
+        return this.numDigits;
     }
 
-    class DigitIterator implements Iterator<Integer> {
+    /**
+     * Remove the digit at index, the higher digits move one position down
+     *
+     * @param index from least significant
+     */
+    private void removeDigitAt(int index) {
+        System.arraycopy(digits, index + 1, digits, index, numDigits - index - 1);
+        numDigits--;
+    }
 
-        LinkedList<Integer> digitAdhoc;
-        Iterator<Integer> itor;
+    class DigitIterator implements Iterator<Integer> {
 
-        DigitIterator(LinkedList<Integer> digitAdhoc) {
-            this.digitAdhoc = digitAdhoc;
-            if (this.digitAdhoc == null) {
-                this.digitAdhoc = new LinkedList<Integer>();
-            }
-            this.itor = this.digitAdhoc.iterator();
-        }
+        int cursor = 0;
+        int lastReturned = -1;
 
         @Override
         public boolean hasNext() {
-            return itor.hasNext();
+            return cursor < numDigits;
         }
 
         @Override
         public Integer next() {
-            return itor.next();
+            if (cursor >= numDigits) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            return digits[cursor++];
         }
 
         @Override
         public void remove() {
-            itor.remove();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            removeDigitAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
         }
     }
 
     public Iterator<Integer> digitDescendingIterator() {
-        return new DigitDescendingIterator(digitList);
+        return new DigitDescendingIterator();
     }
 
     class DigitDescendingIterator implements Iterator<Integer> {
 
-        LinkedList<Integer> digitAdhoc;
-        Iterator<Integer> itor;
-
-        DigitDescendingIterator(LinkedList<Integer> digitAdhoc) {
-            this.digitAdhoc = digitAdhoc;
-            if (this.digitAdhoc == null) {
-                this.digitAdhoc = new LinkedList<Integer>();
-            }
-            this.itor = this.digitAdhoc.descendingIterator();
-        }
+        int cursor = numDigits - 1;
+        int lastReturned = -1;
 
         @Override
         public boolean hasNext() {
-            return itor.hasNext();
+            return cursor >= 0;
         }
 
         @Override
         public Integer next() {
-            return itor.next();
+            if (cursor < 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            return digits[cursor--];
         }
 
         @Override
         public void remove() {
-            itor.remove();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            removeDigitAt(lastReturned);
+            lastReturned = -1;
         }
     }
 
@@ -282,9 +620,13 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
     }
 
     private void swapBigNumbers(jxy132330_Jun_Yu_BigNumber_5 other) {
-        LinkedList<Integer> swap = this.digitList;
-        this.digitList = other.digitList;
-        other.digitList = swap;
+        int[] swap = this.digits;
+        this.digits = other.digits;
+        other.digits = swap;
+
+        int swapNum = this.numDigits;
+        this.numDigits = other.numDigits;
+        other.numDigits = swapNum;
     }
 
     /**
@@ -550,908 +892,6403 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
      * @param str the string representative decimal
      */
     public void strToNum(String str) {
-        boolean isResultNegative = false;
-        if (str.charAt(0) == '-') {
-            str = str.substring(1);
-            isResultNegative = true;
-        }
-
-        int remnant;
-        String num = str;
-
-        while (!num.equals("0")) {
-            // If num = "0", means the result of division is 0, so the loop ends
-            StringBuffer buffer = new StringBuffer();
-            remnant = strDivideByInt(num, this.base, buffer);
-            num = buffer.toString();
-            //System.out.println(num);
-            // remnant is the content of every node
-            addDigit(remnant);
-        }
+        strToNum(str, 0, str.length());
+    }
 
-        if (isResultNegative) {
-            this.negative = true;
-        }
+    /**
+     * Char array range to big number, the chars are not copied
+     *
+     * @param chars char array containing the decimal
+     * @param start index inclusive
+     * @param end   index exclusive
+     */
+    public void strToNum(char[] chars, int start, int end) {
+        strToNum(CharBuffer.wrap(chars), start, end);
     }
 
     /**
-     * Big number to string
+     * Char sequence range to big number, the chars are not copied.
+     * The decimal is split in halves recursively, the halves are converted independently
+     * and combined by the cached power of ten, so the cost follows the cost of multiplication
      *
-     * @return the string representative decimal
+     * @param str   char sequence containing the decimal
+     * @param start index inclusive
+     * @param end   index exclusive
      */
-    public String numToStr() {
-        String absoluteResult = this.absoluteNumToStr();
+    public void strToNum(CharSequence str, int start, int end) {
+        OperationProbe probe = OperationProbe.start(Operation.PARSE, base, end - start, 0);
+        try {
+            boolean isResultNegative = false;
+            if (str.charAt(start) == '-') {
+                start++;
+                isResultNegative = true;
+            }
+            if (start >= end) {
+                throw new NumberFormatException();
+            }
 
-        if (this.isNegative()) {
-            return "-" + absoluteResult;
+            jxy132330_Jun_Yu_BigNumber_5 result = parseDecimal(str, start, end, this.base);
+            this.digits = result.digits;
+            this.numDigits = result.numDigits;
+            this.negative = isResultNegative && !this.isZero();
+        } finally {
+            OperationProbe.finish(probe);
         }
-        return absoluteResult;
     }
 
     /**
-     * If this is small enough, return integer of this
+     * Convert decimal chars to big number by divide and conquer
      *
-     * @return integer
+     * @param str   decimal chars, without sign
+     * @param start index inclusive
+     * @param end   index exclusive
+     * @param base  base of digits
+     * @return non negative big number
      */
-    public int numToInt() {
-        if (this.digitList.size() > 2) {
-            throw new ArithmeticException("This is too big");
+    private static jxy132330_Jun_Yu_BigNumber_5 parseDecimal(CharSequence str, int start, int end, int base) {
+        int length = end - start;
+        if (length <= parseThreshold) {
+            return parseDecimalChunks(str, start, end, base);
         }
 
-        Iterator<Integer> itor = this.digitIterator();
-        int result = 0;
-        if (itor.hasNext()) {
-            result += itor.next();
-        }
-        if (itor.hasNext()) {
-            result += itor.next() * this.base;
-        }
+        // the lower part has 9 * 2 ^ level chars, the largest such length less than the whole
+        int level = 31 - Integer.numberOfLeadingZeros((length - 1) / DECIMAL_CHUNK_LENGTH);
+        int lowLength = DECIMAL_CHUNK_LENGTH << level;
 
-        return result;
+        jxy132330_Jun_Yu_BigNumber_5 high = parseDecimal(str, start, end - lowLength, base);
+        jxy132330_Jun_Yu_BigNumber_5 low = parseDecimal(str, end - lowLength, end, base);
+        return multiplyPositive(high, decimalPower(base, level)).add(low);
     }
 
     /**
-     * Absolute of big number to string
+     * Convert decimal chars to big number, 9 chars at a time
      *
-     * @return the string representative decimal
+     * @param str   decimal chars, without sign
+     * @param start index inclusive
+     * @param end   index exclusive
+     * @param base  base of digits
+     * @return non negative big number
      */
-    public String absoluteNumToStr() {
-        Iterator<Integer> itor = this.digitDescendingIterator();
-        String result = "0";
-        while (itor.hasNext()) {
-            int digit = itor.next();
-            String temp = String.valueOf(digit);
-
-            if (itor.hasNext()) {
-                // escape last one, so that the result be correct
-                // you should choose base wisely so that the operation won't overflow
-                result = multiplyByInt(result, this.base);
-                // multiplied by base
-                temp = String.valueOf(this.base * digit);
-            }
-            // add result * base + temp
-            result = addTwoNumStr(result, temp);
+    private static jxy132330_Jun_Yu_BigNumber_5 parseDecimalChunks(CharSequence str, int start, int end, int base) {
+        int[] result = new int[(int) ((end - start) * Math.log(10) / Math.log(base)) + 3];
+        int length = 0;
+
+        // the first chunk takes the remaining chars so that the others have exactly 9 chars
+        int chunkEnd = start + (end - start) % DECIMAL_CHUNK_LENGTH;
+        if (chunkEnd == start) {
+            chunkEnd += DECIMAL_CHUNK_LENGTH;
         }
-        return result;
+        int chunkStart = start;
+        while (chunkStart < end) {
+            int chunk = 0;
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                int digit = str.charAt(i) - '0';
+                if ((digit < 0) || (digit > 9))
+                    throw new NumberFormatException();
+                chunk = chunk * 10 + digit;
+            }
+
+            // result = result * 10 ^ (chunk length) + chunk
+            length = multiplyByIntMagnitude(result, length, INT_POWERS_OF_TEN[chunkEnd - chunkStart], result, base);
+            long carry = chunk;
+            for (int i = 0; carry > 0; i++) {
+                long temp = (i < length ? result[i] : 0) + carry;
+                carry = temp / base;
+                result[i] = (int) (temp - carry * base);
+                if (i >= length) {
+                    length = i + 1;
+                }
+            }
+
+            chunkStart = chunkEnd;
+            chunkEnd += DECIMAL_CHUNK_LENGTH;
+        }
+        return fromDigits(base, result, length);
     }
 
     /**
-     * Append a digit to this big number, this is for only internal operation
+     * This big number in another base. Between powers of 2 the bits are repacked,
+     * between a base and its power the digits are regrouped, otherwise the digits are split in halves
+     * recursively, the halves are converted independently and combined by the cached power of the base,
+     * so the cost follows the cost of multiplication
      *
-     * @param digit to be appended
+     * @param newBase base of digits of the result, 2 to optimalBase
+     * @return big number equal to this, in newBase
      */
-    private void addDigit(int digit) {
-        if (digit < 0) {
-            return;
+    public jxy132330_Jun_Yu_BigNumber_5 toBase(int newBase) {
+        if (newBase < 2 || newBase > optimalBase) {
+            throw new IllegalArgumentException("Base out of range");
+        }
+
+        OperationProbe probe = OperationProbe.start(Operation.CONVERT, this, null);
+        try {
+            if (newBase == this.base) {
+                return new jxy132330_Jun_Yu_BigNumber_5(this);
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5 result;
+            int exponent;
+            if (((this.base & (this.base - 1)) | (newBase & (newBase - 1))) == 0) {
+                result = repackBits(this.digits, this.numDigits, this.base, newBase);
+            } else if ((exponent = powerExponent(Math.min(this.base, newBase), Math.max(this.base, newBase))) > 0) {
+                result = regroupDigits(this.digits, this.numDigits, this.base, newBase, exponent);
+            } else {
+                result = convertDigits(this.digits, 0, this.numDigits, this.base, newBase);
+            }
+            result.negative = this.negative && !result.isZero();
+            return result;
+        } finally {
+            OperationProbe.finish(probe);
         }
-        this.digitList.add(digit);
     }
 
     /**
-     * Prepend a digit to this big number, this is for only internal operation
+     * Both operands in one base, so that binary operations accept numbers of different bases.
+     * The operand with fewer digits is converted to the base of the other, on a tie the right one
      *
-     * @param digit non negative
+     * @param a left operand
+     * @param b right operand
+     * @return array of a and b, one of them converted
      */
-    private void addFirstDigit(int digit) {
-        if (digit < 0) {
-            return;
+    private static jxy132330_Jun_Yu_BigNumber_5[] toCommonBase(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                               jxy132330_Jun_Yu_BigNumber_5 b) {
+        if (a.base == b.base) {
+            return new jxy132330_Jun_Yu_BigNumber_5[]{a, b};
         }
-        this.digitList.addFirst(digit);
+        if (a.numDigits < b.numDigits) {
+            return new jxy132330_Jun_Yu_BigNumber_5[]{a.toBase(b.base), b};
+        }
+        return new jxy132330_Jun_Yu_BigNumber_5[]{a, b.toBase(a.base)};
     }
 
     /**
-     * Equivalent to multiply (base * numBase) to this,
-     * that is to prepend numBase 0 digits into digitList
+     * Magnitude from a power of 2 base to another, the digits are taken as a stream of bits
      *
-     * @param numBase the number of node prepend to list
+     * @param digits   digits of source, least significant first
+     * @param length   the number of digits
+     * @param fromBase base of source, power of 2
+     * @param toBase   base of result, power of 2
+     * @return non negative big number
      */
-    private void shiftByBase(int numBase) {
-        if (numBase <= 0) {
-            return;
+    private static jxy132330_Jun_Yu_BigNumber_5 repackBits(int[] digits, int length, int fromBase, int toBase) {
+        int fromBits = Integer.numberOfTrailingZeros(fromBase);
+        int toBits = Integer.numberOfTrailingZeros(toBase);
+        int[] result = new int[(int) (((long) length * fromBits + toBits - 1) / toBits)];
+        int resultLength = 0;
+
+        // less than fromBits + toBits bits are pending, at most 28
+        long pending = 0;
+        int pendingBits = 0;
+        for (int i = 0; i < length; i++) {
+            pending |= (long) digits[i] << pendingBits;
+            pendingBits += fromBits;
+            while (pendingBits >= toBits) {
+                result[resultLength++] = (int) pending & (toBase - 1);
+                pending >>>= toBits;
+                pendingBits -= toBits;
+            }
         }
-
-        for (int i = 0; i < numBase; i++) {
-            this.addFirstDigit(0);
+        if (pendingBits > 0) {
+            result[resultLength++] = (int) pending;
         }
+        return fromDigits(toBase, result, resultLength);
     }
 
     /**
-     * Return the big number left shifted from this by num
+     * The exponent k such that small ^ k = large
      *
-     * @param num the number of digit shifted
-     * @return new big number
+     * @param small smaller base, at least 2
+     * @param large larger base
+     * @return k, or 0 if large is not a power of small
      */
-    public jxy132330_Jun_Yu_BigNumber_5 shiftLeft(int num) {
-        if (num <= 0) {
-            return new jxy132330_Jun_Yu_BigNumber_5(this);
-        }
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this);
-        for (int i = 0; i < num; i++) {
-            result.addFirstDigit(0);
+    private static int powerExponent(int small, int large) {
+        long power = small;
+        int exponent = 1;
+        while (power < large) {
+            power *= small;
+            exponent++;
         }
-        return result;
+        return power == large ? exponent : 0;
     }
 
     /**
-     * Return the big number right shifted from this by num
+     * Magnitude between a base and its power, every k digits of the smaller base make a digit of the larger
      *
-     * @param num the number of digit shifted
-     * @return new big number
+     * @param digits   digits of source, least significant first
+     * @param length   the number of digits
+     * @param fromBase base of source
+     * @param toBase   base of result
+     * @param k        the larger base is the smaller base ^ k
+     * @return non negative big number
      */
-    public jxy132330_Jun_Yu_BigNumber_5 shiftRight(int num) {
-        if (num <= 0) {
-            return new jxy132330_Jun_Yu_BigNumber_5(this);
+    private static jxy132330_Jun_Yu_BigNumber_5 regroupDigits(int[] digits, int length,
+                                                              int fromBase, int toBase, int k) {
+        if (fromBase < toBase) {
+            int[] result = new int[(length + k - 1) / k];
+            for (int i = length - 1; i >= 0; i--) {
+                result[i / k] = result[i / k] * fromBase + digits[i];
+            }
+            return fromDigits(toBase, result, result.length);
         }
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this);
-        Iterator<Integer> itor = result.digitIterator();
-        while (itor.hasNext()) {
-            itor.next();
-            itor.remove();
 
-            num--;
-            if (num == 0) {
-                break;
+        int[] result = new int[length * k];
+        for (int i = 0; i < length; i++) {
+            int digit = digits[i];
+            for (int j = 0; j < k; j++) {
+                int next = digit / toBase;
+                result[i * k + j] = digit - next * toBase;
+                digit = next;
             }
         }
-
-        return result;
+        return fromDigits(toBase, result, result.length);
     }
 
     /**
-     * Add this with a big number, is their base not the same, throw a exception
+     * Magnitude to another base by divide and conquer, like parseDecimal with the digits of fromBase as chars
      *
-     * @param other right operand
-     * @return the result of addition
+     * @param digits   digits of source, least significant first
+     * @param start    index inclusive
+     * @param end      index exclusive
+     * @param fromBase base of source
+     * @param toBase   base of result
+     * @return non negative big number
      */
-    public jxy132330_Jun_Yu_BigNumber_5 add(jxy132330_Jun_Yu_BigNumber_5 other) {
-        if (other == null) {
-            return this;
-        }
-
-        if (this == other) {
-            if (this.isNegative()) {
-                this.negate();
-                jxy132330_Jun_Yu_BigNumber_5 temp = this.add(other);
-                this.negate();
-                return temp;
-            }
-        }
-
-        if (this.base != other.getBase()) {
-            throw new NumberFormatException("Base not the same");
+    private static jxy132330_Jun_Yu_BigNumber_5 convertDigits(int[] digits, int start, int end,
+                                                              int fromBase, int toBase) {
+        int length = end - start;
+        if (length <= conversionThreshold) {
+            return convertDigitsChunks(digits, start, end, fromBase, toBase);
         }
 
-        // two negative number addition = negation of addition of two absolutes
-        if (this.isNegative() && other.isNegative()) {
-            this.negate();
-            other.negate();
-            jxy132330_Jun_Yu_BigNumber_5 abs = this.add(other);
+        // the lower part has 2 ^ level digits, the largest such length less than the whole
+        int level = 31 - Integer.numberOfLeadingZeros(length - 1);
+        int lowLength = 1 << level;
 
-            abs.negative = true;
+        jxy132330_Jun_Yu_BigNumber_5 high = convertDigits(digits, start + lowLength, end, fromBase, toBase);
+        jxy132330_Jun_Yu_BigNumber_5 low = convertDigits(digits, start, start + lowLength, fromBase, toBase);
+        return multiplyPositive(high, RADIX_POWERS.power(fromBase, toBase, level)).add(low);
+    }
 
-            this.negate();
-            other.negate();
-            return abs;
+    /**
+     * Magnitude to another base by Horner's rule, as many digits at a time as fit in int
+     *
+     * @param digits   digits of source, least significant first
+     * @param start    index inclusive
+     * @param end      index exclusive
+     * @param fromBase base of source
+     * @param toBase   base of result
+     * @return non negative big number
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 convertDigitsChunks(int[] digits, int start, int end,
+                                                                    int fromBase, int toBase) {
+        int chunkLength = 1;
+        while (Math.pow(fromBase, chunkLength + 1) <= Integer.MAX_VALUE) {
+            chunkLength++;
         }
 
-        // positive and negative
-        if (this.isNegative() ^ other.isNegative()) {
-            if (this.compareTo(other) > 0) {
-                // this is positive, other is negative
-                other.negate();
-
-                jxy132330_Jun_Yu_BigNumber_5 temp;
-                if (this.compareTo(other) > 0) {
-                    temp = subtract(other);
-                } else {
-                    temp = other.subtract(this);
-                    temp.negate();
-                }
+        int[] result = new int[(int) ((end - start) * Math.log(fromBase) / Math.log(toBase)) + 3];
+        int length = 0;
 
-                other.negate();
-                return temp;
-            } else {
-                // this is negative, other is positive
-                this.negate();
+        // the first chunk takes the remaining digits so that the others have exactly chunkLength digits
+        int chunkStart = end - (end - start) % chunkLength;
+        if (chunkStart == end) {
+            chunkStart -= chunkLength;
+        }
+        int chunkEnd = end;
+        while (chunkEnd > start) {
+            int chunk = 0;
+            int scale = 1;
+            for (int i = chunkEnd - 1; i >= chunkStart; i--) {
+                chunk = chunk * fromBase + digits[i];
+                scale *= fromBase;
+            }
 
-                jxy132330_Jun_Yu_BigNumber_5 temp;
-                if (this.compareTo(other) > 0) {
-                    temp = this.subtract(other);
-                    temp.negate();
-                } else {
-                    temp = other.subtract(this);
+            // result = result * fromBase ^ (chunk length) + chunk
+            length = multiplyByIntMagnitude(result, length, scale, result, toBase);
+            long carry = chunk;
+            for (int i = 0; carry > 0; i++) {
+                long temp = (i < length ? result[i] : 0) + carry;
+                carry = temp / toBase;
+                result[i] = (int) (temp - carry * toBase);
+                if (i >= length) {
+                    length = i + 1;
                 }
-
-                this.negate();
-                return temp;
             }
+
+            chunkEnd = chunkStart;
+            chunkStart -= chunkLength;
         }
+        return fromDigits(toBase, result, length);
+    }
 
-        // two positive numbers
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
-        int carry = 0;
-        Iterator<Integer> itor1 = this.digitIterator();
-        Iterator<Integer> itor2 = other.digitIterator();
-        int digit1, digit2;
-
-        while (itor1.hasNext() || itor2.hasNext()) {
-            if (itor1.hasNext()) {
-                // If itor exceed the range, let it be zero
-                digit1 = itor1.next();
-            } else {
-                digit1 = 0;
-            }
-            if (itor2.hasNext()) {
-                digit2 = itor2.next();
-            } else {
-                digit2 = 0;
+    /**
+     * 10 ^ (9 * 2 ^ level) in base, computed by repeated squaring and cached
+     *
+     * @param base  base of digits
+     * @param level level of power
+     * @return power of ten, must not be modified
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 decimalPower(int base, int level) {
+        return RADIX_POWERS.power(INT_POWERS_OF_TEN[DECIMAL_CHUNK_LENGTH], base, level);
+    }
+
+    /**
+     * 10 ^ (9 * 2 ^ level) in base prepared for repeated division, cached
+     *
+     * @param base  base of digits
+     * @param level level of power
+     * @return prepared power of ten
+     */
+    private static PreparedDivisor decimalDivisor(int base, int level) {
+        return RADIX_POWERS.divisor(INT_POWERS_OF_TEN[DECIMAL_CHUNK_LENGTH], base, level);
+    }
+
+    /**
+     * Process wide cache of radix ^ (2 ^ level) for every radix and base, grown lazily by squaring the level below.
+     * The radix is 10 ^ 9 for decimal conversion and the source base for toBase.
+     * Every entry is computed under its own monitor, so threads asking for one key wait for a single
+     * computation while other keys go on; the monitor of the cache only guards the map and the size.
+     * While the total number of digits held is above the limit, the entry of the largest
+     * size * age is dropped, so one large idle power goes before many small recent ones;
+     * a dropped level is computed again from the nearest level still cached
+     */
+    private static class RadixPowerCache {
+
+        private static class Entry {
+            // null until computed, guarded by this entry
+            jxy132330_Jun_Yu_BigNumber_5 power;
+            PreparedDivisor divisor;
+            // the number of digits held and the clock of the last use, guarded by the cache
+            long size;
+            long lastUse;
+        }
+
+        // key is radix << 20 | base << 5 | level
+        private final HashMap<Long, Entry> entries = new HashMap<Long, Entry>();
+        private long size;
+        private long limit;
+        // counts the uses, the age of an entry is clock - lastUse
+        private long clock;
+
+        RadixPowerCache(long limit) {
+            this.limit = limit;
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 power(int radix, int base, int level) {
+            Entry entry = entry(radix, base, level);
+            synchronized (entry) {
+                if (entry.power == null) {
+                    entry.power = level == 0 ? fromInt(radix, base) : power(radix, base, level - 1).square();
+                    added(radix, base, level, entry, entry.power.numDigits);
+                }
+                return entry.power;
             }
+        }
 
-            // if base is less than 2 ^ 15, the operation will never overflow
-            int temp = digit1 + digit2 + carry;
-            if (temp > (this.base - 1)) {
-                carry = 1;
-                temp = temp % this.base;
-            } else {
-                carry = 0;
+        PreparedDivisor divisor(int radix, int base, int level) {
+            Entry entry = entry(radix, base, level);
+            synchronized (entry) {
+                if (entry.divisor == null) {
+                    PreparedDivisor divisor = new PreparedDivisor(power(radix, base, level));
+                    entry.divisor = divisor;
+                    added(radix, base, level, entry, divisor.n + divisor.reciprocal.numDigits);
+                }
+                return entry.divisor;
             }
+        }
 
-            result.addDigit(temp);
+        synchronized long getLimit() {
+            return limit;
         }
 
-        if (carry == 1) {
-            // last carry
-            result.addDigit(1);
+        synchronized void setLimit(long limit) {
+            this.limit = limit;
+            trim();
         }
 
-        return result;
+        /**
+         * @return the number of digits held
+         */
+        synchronized long getSize() {
+            return size;
+        }
+
+        private static Long key(int radix, int base, int level) {
+            return ((long) radix << 20) | ((long) base << 5) | level;
+        }
+
+        /**
+         * The entry of a key, an empty one is published if there is none
+         */
+        private synchronized Entry entry(int radix, int base, int level) {
+            Long key = key(radix, base, level);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(key, entry);
+            }
+            entry.lastUse = ++clock;
+            return entry;
+        }
+
+        /**
+         * Count digits computed for an entry, unless it was dropped meanwhile
+         */
+        private synchronized void added(int radix, int base, int level, Entry entry, long digits) {
+            if (entries.get(key(radix, base, level)) != entry) {
+                return;
+            }
+            entry.size += digits;
+            size += digits;
+            trim();
+        }
+
+        private void trim() {
+            while (size > limit) {
+                Long victim = null;
+                double victimWeight = 0;
+                for (Map.Entry<Long, Entry> candidate : entries.entrySet()) {
+                    Entry entry = candidate.getValue();
+                    double weight = (double) entry.size * (clock - entry.lastUse + 1);
+                    if (weight > victimWeight) {
+                        victim = candidate.getKey();
+                        victimWeight = weight;
+                    }
+                }
+                if (victim == null) {
+                    return;
+                }
+                size -= entries.remove(victim).size;
+            }
+        }
     }
 
     /**
-     * Absolute compare
-     *
-     * @param o other object
-     * @return int
+     * Per thread pool of scratch arrays for the temporaries of multiply, divide and modular reduction,
+     * which never escape the kernel taking them. Lengths are rounded up to powers of 2 and only the
+     * requested prefix is cleared, so callers must not rely on the length of an array.
+     * A scope gives back every array taken since it was opened, scopes are closed in reverse order,
+     * in a finally block. The free arrays kept are bounded by RETAINED per size class and by
+     * scratchRetainedLimit bytes per thread, an array given back beyond the limit is left to the collector
      */
-    @Override
-    public int compareTo(jxy132330_Jun_Yu_BigNumber_5 o) {
-        if (o == null) {
-            throw new NullPointerException("The specific object is null");
+    private static final class ScratchArena {
+        // shorter arrays are cheap to allocate, the longest are the transforms of FFT_MAX_LENGTH
+        private static final int MIN_SHIFT = 6;
+        private static final int MAX_SHIFT = 26;
+        // free arrays kept per size class
+        private static final int RETAINED = 4;
+
+        private static final ThreadLocal<ScratchArena> ARENA = new ThreadLocal<ScratchArena>() {
+            @Override
+            protected ScratchArena initialValue() {
+                return new ScratchArena();
+            }
+        };
+        private static final LongAdder HITS = new LongAdder();
+        private static final LongAdder MISSES = new LongAdder();
+        // incremented by trimScratch, an arena drops its free arrays when it sees a new value
+        private static final AtomicLong TRIMS = new AtomicLong();
+
+        private final int[][][] freeInts = new int[MAX_SHIFT + 1][RETAINED][];
+        private final int[] freeIntCount = new int[MAX_SHIFT + 1];
+        private final long[][][] freeLongs = new long[MAX_SHIFT + 1][RETAINED][];
+        private final int[] freeLongCount = new int[MAX_SHIFT + 1];
+        // bytes of the free arrays
+        private long retainedBytes;
+        private long trims = TRIMS.get();
+        // arrays taken in the open scopes, in order of taking
+        private Object[] taken = new Object[16];
+        private int takenCount;
+
+        static ScratchArena get() {
+            return ARENA.get();
         }
 
-        jxy132330_Jun_Yu_BigNumber_5 o1 = this;
+        /**
+         * @return mark to close the scope with
+         */
+        int open() {
+            if (trims != TRIMS.get()) {
+                trims = TRIMS.get();
+                for (int shift = 0; shift <= MAX_SHIFT; shift++) {
+                    Arrays.fill(freeInts[shift], null);
+                    Arrays.fill(freeLongs[shift], null);
+                }
+                Arrays.fill(freeIntCount, 0);
+                Arrays.fill(freeLongCount, 0);
+                retainedBytes = 0;
+            }
+            return takenCount;
+        }
 
-        // negative and positive
-        if (o1.isNegative() ^ o.isNegative()) {
-            return o1.isNegative() ? -1 : 1;
+        /**
+         * Give back the arrays taken since open returned mark
+         *
+         * @param mark value of open
+         */
+        void close(int mark) {
+            while (takenCount > mark) {
+                Object array = taken[--takenCount];
+                taken[takenCount] = null;
+                if (array instanceof int[]) {
+                    int[] ints = (int[]) array;
+                    int shift = Integer.numberOfTrailingZeros(ints.length);
+                    if (freeIntCount[shift] < RETAINED && retain(4L * ints.length)) {
+                        freeInts[shift][freeIntCount[shift]++] = ints;
+                    }
+                } else {
+                    long[] longs = (long[]) array;
+                    int shift = Integer.numberOfTrailingZeros(longs.length);
+                    if (freeLongCount[shift] < RETAINED && retain(8L * longs.length)) {
+                        freeLongs[shift][freeLongCount[shift]++] = longs;
+                    }
+                }
+            }
         }
 
-        int size1 = o1.getDigitList().size();
-        int size2 = o.getDigitList().size();
+        /**
+         * @param length the number of ints needed
+         * @return array of at least length, [0, length) is zero
+         */
+        int[] ints(int length) {
+            int shift = sizeClass(length);
+            if (shift < 0) {
+                return new int[length];
+            }
 
-        if (size1 != size2) {
-            return (size1 - size2);
+            int[] array;
+            if (freeIntCount[shift] > 0) {
+                array = freeInts[shift][--freeIntCount[shift]];
+                freeInts[shift][freeIntCount[shift]] = null;
+                retainedBytes -= 4L * array.length;
+                Arrays.fill(array, 0, length, 0);
+                HITS.increment();
+            } else {
+                array = new int[1 << shift];
+                MISSES.increment();
+            }
+            push(array);
+            return array;
         }
 
-        Iterator<Integer> itor1 = o1.digitDescendingIterator();
-        Iterator<Integer> itor2 = o.digitDescendingIterator();
-        // comparison from most significant digit to least
-        while (itor1.hasNext() && itor2.hasNext()) {
-            int digit1 = itor1.next();
-            int digit2 = itor2.next();
-            if (digit1 != digit2) {
-                return (digit1 - digit2);
+        /**
+         * @param length the number of longs needed
+         * @return array of at least length, [0, length) is zero
+         */
+        long[] longs(int length) {
+            int shift = sizeClass(length);
+            if (shift < 0) {
+                return new long[length];
+            }
+
+            long[] array;
+            if (freeLongCount[shift] > 0) {
+                array = freeLongs[shift][--freeLongCount[shift]];
+                freeLongs[shift][freeLongCount[shift]] = null;
+                retainedBytes -= 8L * array.length;
+                Arrays.fill(array, 0, length, 0);
+                HITS.increment();
+            } else {
+                array = new long[1 << shift];
+                MISSES.increment();
             }
+            push(array);
+            return array;
+        }
+
+        /**
+         * @param length requested length
+         * @return log 2 of the length rounded up to a power of 2, or -1 if not pooled
+         */
+        private static int sizeClass(int length) {
+            if (length <= 1 << MIN_SHIFT || length > 1 << MAX_SHIFT) {
+                return -1;
+            }
+            return 32 - Integer.numberOfLeadingZeros(length - 1);
+        }
+
+        /**
+         * Count bytes of an array to keep, if they fit in the limit
+         */
+        private boolean retain(long bytes) {
+            if (retainedBytes + bytes > scratchRetainedLimit) {
+                return false;
+            }
+            retainedBytes += bytes;
+            return true;
+        }
+
+        private void push(Object array) {
+            if (takenCount == taken.length) {
+                taken = Arrays.copyOf(taken, 2 * takenCount);
+            }
+            taken[takenCount++] = array;
         }
-        // otherwise equal
-        return 0;
     }
 
-//    public jxy132330_Jun_Yu_BigNumber_5 subtract(int other) {
-//
-//    }
+    /**
+     * Operations recorded by the metrics, the calls made inside an operation are part of it.
+     * PRODUCT is a product tree of many factors, such as product(List) and factorial
+     */
+    public enum Operation {
+        ADD, SUBTRACT, MULTIPLY, SQUARE, DIVIDE, POWER, SQRT, PARSE, FORMAT, CONVERT, PRODUCT
+    }
 
     /**
-     * Subtract this to other big number
-     *
-     * @param other big number
-     * @return the difference of two big numbers, if less than 0, return 0
+     * Management interface of the operation metrics, registered as bignumber:type=Metrics
+     * when the metrics are enabled for the first time. The arguments named operation are names of Operation.
+     * Operand digits are the sum of the number of digits of both operands, the number of chars for PARSE
+     * and the sum over all factors for PRODUCT;
+     * bucket i of the latency histogram counts the operations that took [2 ^ i, 2 ^ (i + 1)) nanoseconds;
+     * allocated bytes are those of the calling thread, the parallel sub-products are not included
      */
-    public jxy132330_Jun_Yu_BigNumber_5 subtract(jxy132330_Jun_Yu_BigNumber_5 other) {
-        if (other == null) {
-            return this;
+    public interface MetricsMXBean {
+
+        boolean isEnabled();
+
+        void setEnabled(boolean enabled);
+
+        long getSlowOperationNanos();
+
+        void setSlowOperationNanos(long slowOperationNanos);
+
+        String[] getOperations();
+
+        long getCount(String operation);
+
+        long getSlowCount(String operation);
+
+        long getTotalNanos(String operation);
+
+        long getAllocatedBytes(String operation);
+
+        long getOperandDigits(String operation);
+
+        long getMaxOperandDigits(String operation);
+
+        long[] getLatencyHistogram(String operation);
+
+        void reset();
+    }
+
+    /**
+     * Counters of every operation, updated by OperationProbe
+     */
+    private static final class Metrics implements MetricsMXBean {
+
+        private static final String OBJECT_NAME = "bignumber:type=Metrics";
+        // null if the JVM can not measure the allocation of a thread
+        private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+        private static final Metrics INSTANCE = register(new Metrics());
+
+        private static class Counters {
+            final LongAdder count = new LongAdder();
+            final LongAdder slowCount = new LongAdder();
+            final LongAdder nanos = new LongAdder();
+            final LongAdder allocated = new LongAdder();
+            final LongAdder digits = new LongAdder();
+            final AtomicLong maxDigits = new AtomicLong();
+            final AtomicLongArray histogram = new AtomicLongArray(64);
+
+            /**
+             * Zero every counter in place, a record running at the same time may be kept in part
+             */
+            void reset() {
+                count.reset();
+                slowCount.reset();
+                nanos.reset();
+                allocated.reset();
+                digits.reset();
+                maxDigits.set(0);
+                for (int i = 0; i < histogram.length(); i++) {
+                    histogram.set(i, 0);
+                }
+            }
         }
 
-        if (this == other) {
-            return new jxy132330_Jun_Yu_BigNumber_5();
+        private final Counters[] counters = new Counters[Operation.values().length];
+
+        private Metrics() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new Counters();
+            }
         }
 
-        if (this.base != other.getBase()) {
-            throw new NumberFormatException("Base not the same");
+        private static Metrics register(Metrics metrics) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                // registered by another class loader, the counters still work without JMX
+            }
+            return metrics;
         }
 
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
+        private static com.sun.management.ThreadMXBean allocationCounter() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+                if (counter.isThreadAllocatedMemorySupported() && counter.isThreadAllocatedMemoryEnabled()) {
+                    return counter;
+                }
+            }
+            return null;
+        }
 
-        if (this.isNegative() ^ other.isNegative()) {
-            jxy132330_Jun_Yu_BigNumber_5 temp;
-            if (this.compareTo(other) > 0) {
-                // this is positive, other is negative
-                other.negate();
+        /**
+         * @return bytes allocated by the current thread so far, 0 if not supported
+         */
+        static long allocatedBytes() {
+            return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+        }
 
-                temp = this.add(other);
+        void record(Operation operation, long digits, long nanos, long allocated, boolean slow) {
+            Counters c = counters[operation.ordinal()];
+            c.count.increment();
+            c.nanos.add(nanos);
+            c.allocated.add(allocated);
+            c.digits.add(digits);
+            long max = c.maxDigits.get();
+            while (digits > max && !c.maxDigits.compareAndSet(max, digits)) {
+                max = c.maxDigits.get();
+            }
+            c.histogram.incrementAndGet(63 - Long.numberOfLeadingZeros(nanos | 1));
+            if (slow) {
+                c.slowCount.increment();
+            }
+        }
 
-                other.negate();
-            } else {
-                // this is negative, other is positive
-                this.negate();
+        private Counters counters(String operation) {
+            return counters[Operation.valueOf(operation).ordinal()];
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return isMetricsEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            setMetricsEnabled(enabled);
+        }
+
+        @Override
+        public long getSlowOperationNanos() {
+            return jxy132330_Jun_Yu_BigNumber_5.getSlowOperationNanos();
+        }
 
-                temp = this.add(other);
-                temp.negate();
+        @Override
+        public void setSlowOperationNanos(long slowOperationNanos) {
+            jxy132330_Jun_Yu_BigNumber_5.setSlowOperationNanos(slowOperationNanos);
+        }
 
-                this.negate();
+        @Override
+        public String[] getOperations() {
+            Operation[] operations = Operation.values();
+            String[] names = new String[operations.length];
+            for (int i = 0; i < operations.length; i++) {
+                names[i] = operations[i].name();
             }
+            return names;
+        }
+
+        @Override
+        public long getCount(String operation) {
+            return counters(operation).count.sum();
+        }
 
-            return temp;
+        @Override
+        public long getSlowCount(String operation) {
+            return counters(operation).slowCount.sum();
         }
 
-        if (this.isNegative() && other.isNegative()) {
-            // both are negative
-            this.negate();
-            other.negate();
+        @Override
+        public long getTotalNanos(String operation) {
+            return counters(operation).nanos.sum();
+        }
 
-            jxy132330_Jun_Yu_BigNumber_5 temp = this.subtract(other);
-            temp.negate();
+        @Override
+        public long getAllocatedBytes(String operation) {
+            return counters(operation).allocated.sum();
+        }
 
-            this.negate();
-            other.negate();
+        @Override
+        public long getOperandDigits(String operation) {
+            return counters(operation).digits.sum();
+        }
 
-            return temp;
+        @Override
+        public long getMaxOperandDigits(String operation) {
+            return counters(operation).maxDigits.get();
         }
 
-        // two numbers are positive
-        // result is 0 if this is less than or equal to other
-        if (this.compareTo(other) < 0) {
-            result = other.subtract(this);
-            result.negate();
+        @Override
+        public long[] getLatencyHistogram(String operation) {
+            AtomicLongArray histogram = counters(operation).histogram;
+            long[] result = new long[histogram.length()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = histogram.get(i);
+            }
             return result;
         }
 
-        // borrow from higher digit, if current digit is less than others current digit
-        int borrow = 0;
-        Iterator<Integer> itor1 = this.digitIterator();
-        Iterator<Integer> itor2 = other.digitIterator();
-        int digit1, digit2;
-
-        // Because this project don't handle negative number,
-        // the number of digit of this is always large than or equal to others
-        // so only need care about the other digit
-        while (itor1.hasNext() || itor2.hasNext()) {
-            if (itor1.hasNext()) {
-                // If itor exceed the range, let it be zero
-                digit1 = itor1.next();
-            } else {
-                digit1 = 0;
+        @Override
+        public void reset() {
+            // the counters are read by record without synchronization, so they are never replaced
+            for (Counters c : counters) {
+                c.reset();
             }
-            if (itor2.hasNext()) {
-                digit2 = itor2.next();
-            } else {
-                digit2 = 0;
+        }
+    }
+
+    /**
+     * Base of the flight recorder events, the operation, its operands and the algorithm chosen for them
+     */
+    @Category("BigNumber")
+    @StackTrace(false)
+    private abstract static class ArithmeticEvent extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Algorithm")
+        String algorithm;
+        @Label("Base")
+        int base;
+        @Label("Left Digits")
+        int leftDigits;
+        @Label("Right Digits")
+        int rightDigits;
+        @Label("Allocated")
+        @DataAmount
+        long allocated;
+    }
+
+    /**
+     * Every operation while the metrics are enabled, off unless turned on in the recording settings
+     */
+    @Name("bignumber.Operation")
+    @Label("BigNumber Operation")
+    @Enabled(false)
+    private static final class OperationEvent extends ArithmeticEvent {
+    }
+
+    /**
+     * An operation that took at least slowOperationNanos, with the stack trace of the caller
+     */
+    @Name("bignumber.SlowOperation")
+    @Label("BigNumber Slow Operation")
+    @StackTrace(true)
+    private static final class SlowOperationEvent extends ArithmeticEvent {
+        @Label("Elapsed")
+        @Timespan
+        long elapsed;
+    }
+
+    /**
+     * Measurement of the outermost operation of a thread, one per thread and reused.
+     * start returns null when the metrics are disabled or another operation is being measured,
+     * so that a disabled probe costs a read of metricsEnabled
+     */
+    private static final class OperationProbe {
+
+        private static final ThreadLocal<OperationProbe> PROBES = new ThreadLocal<OperationProbe>() {
+            @Override
+            protected OperationProbe initialValue() {
+                return new OperationProbe();
             }
+        };
+
+        private boolean active;
+        private Operation operation;
+        private int base;
+        private int left;
+        private int right;
+        private long startNanos;
+        private long startAllocated;
+        private OperationEvent event;
+
+        static OperationProbe start(Operation operation, jxy132330_Jun_Yu_BigNumber_5 left,
+                                    jxy132330_Jun_Yu_BigNumber_5 right) {
+            if (!metricsEnabled) {
+                return null;
+            }
+            return start(operation, left.base, left.numDigits, right == null ? 0 : right.numDigits);
+        }
 
-            int temp = digit1 - (digit2 + borrow);
+        /**
+         * @param operation operation about to run
+         * @param base      base of digits
+         * @param left      the number of digits of left operand, or of chars for PARSE
+         * @param right     the number of digits of right operand, 0 if none
+         * @return probe to finish, null if not measured
+         */
+        static OperationProbe start(Operation operation, int base, int left, int right) {
+            if (!metricsEnabled) {
+                return null;
+            }
+            OperationProbe probe = PROBES.get();
+            if (probe.active) {
+                return null;
+            }
 
-            if (temp < 0) {
-                // then digit borrow 1 from higher digit of this big number
-                borrow = 1;
-                temp = temp + this.base;
-            } else {
-                borrow = 0;
+            probe.active = true;
+            probe.operation = operation;
+            probe.base = base;
+            probe.left = left;
+            probe.right = right;
+            probe.event = new OperationEvent();
+            probe.event.begin();
+            probe.startAllocated = Metrics.allocatedBytes();
+            probe.startNanos = System.nanoTime();
+            return probe;
+        }
+
+        /**
+         * Record the operation, whether it returned or threw
+         *
+         * @param probe value of start
+         */
+        static void finish(OperationProbe probe) {
+            if (probe == null) {
+                return;
+            }
+            long elapsed = System.nanoTime() - probe.startNanos;
+            long allocated = Metrics.allocatedBytes() - probe.startAllocated;
+            probe.active = false;
+
+            boolean slow = elapsed >= slowOperationNanos;
+            Metrics.INSTANCE.record(probe.operation, (long) probe.left + probe.right, elapsed, allocated, slow);
+
+            OperationEvent event = probe.event;
+            probe.event = null;
+            event.end();
+            if (event.shouldCommit()) {
+                probe.fill(event, allocated);
+                event.commit();
+            }
+            if (slow) {
+                SlowOperationEvent slowEvent = new SlowOperationEvent();
+                if (slowEvent.isEnabled()) {
+                    probe.fill(slowEvent, allocated);
+                    slowEvent.elapsed = elapsed;
+                    slowEvent.commit();
+                }
             }
+        }
 
+        private void fill(ArithmeticEvent event, long allocated) {
+            event.operation = operation.name();
+            event.algorithm = algorithm(operation, left, right, base);
+            event.base = base;
+            event.leftDigits = left;
+            event.rightDigits = right;
+            event.allocated = allocated;
+        }
 
-            result.addDigit(temp);
+        /**
+         * The algorithm the dispatch of the operation chooses for operands of these sizes
+         *
+         * @param operation operation
+         * @param left      the number of digits of left operand, or of chars for PARSE
+         * @param right     the number of digits of right operand
+         * @param base      base of digits
+         * @return name of algorithm
+         */
+        private static String algorithm(Operation operation, int left, int right, int base) {
+            switch (operation) {
+                case MULTIPLY:
+                case SQUARE:
+                    return multiplyAlgorithm(left, right, base);
+                case DIVIDE:
+                    if (right <= 1) {
+                        return "short division";
+                    }
+                    if (right >= newtonThreshold && left > right) {
+                        return "newton";
+                    }
+                    if (right >= burnikelZieglerThreshold && left - right >= burnikelZieglerOffset) {
+                        return "burnikel-ziegler";
+                    }
+                    return "knuth";
+                case POWER:
+                    return "repeated squaring";
+                case SQRT:
+                    return "karatsuba square root";
+                case PARSE:
+                    return left <= parseThreshold ? "schoolbook" : "divide and conquer";
+                case FORMAT:
+                    return left <= formatThreshold ? "schoolbook" : "divide and conquer";
+                case CONVERT:
+                    return "base conversion";
+                case PRODUCT:
+                    return "product tree";
+                default:
+                    return "linear";
+            }
         }
 
-        result.trimTopZeros();
-        return result;
+        /**
+         * The branch multiplyPositive takes
+         */
+        private static String multiplyAlgorithm(int aLength, int bLength, int base) {
+            int shorter = Math.min(aLength, bLength);
+            int longer = Math.max(aLength, bLength);
+            if (shorter == 0) {
+                return "zero";
+            }
+            // the parallel pool runs the same algorithm with its independent parts forked
+            String prefix = isParallel(shorter) ? "parallel " : "";
+            if (shorter >= fftThreshold && fitsFFT(aLength, bLength, base)) {
+                return prefix + "fft";
+            }
+            if (shorter < karatsubaThreshold) {
+                return "schoolbook";
+            }
+            if (longer >= 2 * shorter) {
+                return prefix + "unbalanced";
+            }
+            return shorter < toomCookThreshold ? "karatsuba" : prefix + "toom-cook-3";
+        }
     }
 
     /**
-     * This big number multiplied with a integer
+     * The number of bytes of the binary form
      *
-     * @param other integer
-     * @return big number product
+     * @param compact whether to count the varint form
+     * @return size in bytes
      */
-    public jxy132330_Jun_Yu_BigNumber_5 multiply(int other) {
-        if (other < 0) {
-            jxy132330_Jun_Yu_BigNumber_5 result = multiply(Math.abs(other));
-            result.negate();
-            return result;
+    public int serializedSize(boolean compact) {
+        if (!compact) {
+            return BINARY_HEADER_SIZE + 2 * numDigits;
         }
 
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
-
-        int carry = 0;
-        int digit;
-
-        for (Iterator<Integer> itor = this.digitIterator(); itor.hasNext(); ) {
-            digit = itor.next();
+        int size = 1 + varintSize(base) + varintSize(numDigits);
+        for (int i = 0; i < numDigits; i++) {
+            size += varintSize(digits[i]);
+        }
+        return size;
+    }
 
-            int temp = digit * other + carry;
+    /**
+     * Write the binary form: flags, base, the number of digits and the digits least significant first,
+     * all little endian. Flags bit 0 is the sign, bit 1 marks the varint form,
+     * where base, the number of digits and every digit are unsigned LEB128,
+     * shorter for bases below 2 ^ 14
+     *
+     * @param buffer  output, its position is advanced and its byte order is kept
+     * @param compact whether to write the varint form
+     */
+    public void writeTo(ByteBuffer buffer, boolean compact) {
+        if (buffer.remaining() < serializedSize(compact)) {
+            throw new BufferOverflowException();
+        }
 
-            if (temp > (this.base - 1)) {
-                carry = temp / this.base;
-                temp = temp % this.base;
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            buffer.put((byte) ((negative ? BINARY_NEGATIVE : 0) | (compact ? BINARY_VARINT : 0)));
+            if (compact) {
+                putVarint(buffer, base);
+                putVarint(buffer, numDigits);
+                for (int i = 0; i < numDigits; i++) {
+                    putVarint(buffer, digits[i]);
+                }
             } else {
-                carry = 0;
+                buffer.putShort((short) base);
+                buffer.putInt(numDigits);
+                short[] block = new short[Math.min(numDigits, BINARY_CHUNK_DIGITS)];
+                for (int from = 0; from < numDigits; from += block.length) {
+                    putDigits(buffer, block, from, Math.min(block.length, numDigits - from));
+                }
             }
+        } finally {
+            buffer.order(order);
+        }
+    }
 
-            result.addDigit(temp);
+    /**
+     * Copy digits [from, from + length) through block and put them in bulk as little endian shorts
+     *
+     * @param buffer little endian output, its position is advanced
+     * @param block  reused array of at least length
+     * @param from   index of the first digit
+     * @param length the number of digits
+     */
+    private void putDigits(ByteBuffer buffer, short[] block, int from, int length) {
+        for (int i = 0; i < length; i++) {
+            block[i] = (short) digits[from + i];
         }
+        buffer.asShortBuffer().put(block, 0, length);
+        buffer.position(buffer.position() + 2 * length);
+    }
 
-        // Don't forget the last carry
-        if (carry > 0) {
-            result.addDigit(carry);
+    /**
+     * Write the fixed binary form
+     *
+     * @param buffer output, its position is advanced and its byte order is kept
+     */
+    public void writeTo(ByteBuffer buffer) {
+        writeTo(buffer, false);
+    }
+
+    /**
+     * Write the fixed binary form to a channel, BINARY_CHUNK_DIGITS at a time through one buffer
+     *
+     * @param channel output
+     * @throws IOException if the channel fails
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        int chunk = Math.min(numDigits, BINARY_CHUNK_DIGITS);
+        ByteBuffer buffer = ByteBuffer.allocate(BINARY_HEADER_SIZE + 2 * chunk).order(ByteOrder.LITTLE_ENDIAN);
+        short[] block = new short[chunk];
+        buffer.put((byte) (negative ? BINARY_NEGATIVE : 0));
+        buffer.putShort((short) base);
+        buffer.putInt(numDigits);
+        int from = 0;
+        do {
+            int length = Math.min(chunk, numDigits - from);
+            putDigits(buffer, block, from, length);
+            from += length;
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } while (from < numDigits);
+    }
+
+    /**
+     * @param compact whether to use the varint form
+     * @return the binary form
+     */
+    public byte[] toByteArray(boolean compact) {
+        byte[] bytes = new byte[serializedSize(compact)];
+        writeTo(ByteBuffer.wrap(bytes), compact);
+        return bytes;
+    }
+
+    /**
+     * @return the fixed binary form
+     */
+    public byte[] toByteArray() {
+        return toByteArray(false);
+    }
+
+    /**
+     * Read a big number of either binary form
+     *
+     * @param buffer input, its position is advanced past the number and its byte order is kept
+     * @return new big number in the base written
+     */
+    public static jxy132330_Jun_Yu_BigNumber_5 readFrom(ByteBuffer buffer) {
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int flags = buffer.get();
+            boolean compact = (flags & BINARY_VARINT) != 0;
+            int base = compact ? getVarint(buffer) : buffer.getShort() & 0xFFFF;
+            int length = compact ? getVarint(buffer) : buffer.getInt();
+            if (base < 2 || base > optimalBase || length < 0 || (flags & ~(BINARY_NEGATIVE | BINARY_VARINT)) != 0) {
+                throw new NumberFormatException("Invalid binary form");
+            }
+            // every digit takes at least 1 byte in the varint form, 2 bytes otherwise
+            if (buffer.remaining() < (compact ? 1L : 2L) * length) {
+                throw new BufferUnderflowException();
+            }
+
+            int[] digits = new int[length];
+            for (int i = 0; i < length; i++) {
+                int digit = compact ? getVarint(buffer) : buffer.getShort() & 0xFFFF;
+                if (digit >= base) {
+                    throw new NumberFormatException("Invalid binary form");
+                }
+                digits[i] = digit;
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, digits, length);
+            result.negative = (flags & BINARY_NEGATIVE) != 0 && !result.isZero();
+            return result;
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Read a big number of the fixed binary form from a channel, BINARY_CHUNK_DIGITS at a time.
+     * The digits array grows with the digits received, so a header claiming more than the stream holds
+     * fails at the end of the stream instead of allocating for the claim
+     *
+     * @param channel input
+     * @return new big number in the base written
+     * @throws IOException if the channel fails or ends before the number
+     */
+    public static jxy132330_Jun_Yu_BigNumber_5 readFrom(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        int flags = header.get(0);
+        int base = header.getShort(1) & 0xFFFF;
+        int length = header.getInt(3);
+        if (base < 2 || base > optimalBase || length < 0 || (flags & ~BINARY_NEGATIVE) != 0) {
+            throw new NumberFormatException("Invalid binary form");
+        }
+
+        int chunk = Math.min(length, BINARY_CHUNK_DIGITS);
+        ByteBuffer buffer = ByteBuffer.allocate(2 * chunk).order(ByteOrder.LITTLE_ENDIAN);
+        short[] block = new short[chunk];
+        int[] digits = new int[chunk];
+        for (int from = 0; from < length; from += chunk) {
+            int count = Math.min(chunk, length - from);
+            buffer.clear();
+            buffer.limit(2 * count);
+            readFully(channel, buffer);
+            buffer.flip();
+            buffer.asShortBuffer().get(block, 0, count);
+
+            if (from + count > digits.length) {
+                digits = Arrays.copyOf(digits, (int) Math.min(length, 2L * digits.length));
+            }
+            for (int i = 0; i < count; i++) {
+                int digit = block[i] & 0xFFFF;
+                if (digit >= base) {
+                    throw new NumberFormatException("Invalid binary form");
+                }
+                digits[from + i] = digit;
+            }
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, digits, length);
+        result.negative = (flags & BINARY_NEGATIVE) != 0 && !result.isZero();
+        return result;
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new NumberFormatException("Invalid binary form");
+    }
+
+    /**
+     * Big number to string
+     *
+     * @return the string representative decimal
+     */
+    public String numToStr() {
+        OperationProbe probe = OperationProbe.start(Operation.FORMAT, this, null);
+        try {
+            String absoluteResult = this.absoluteNumToStr();
+
+            if (this.isNegative()) {
+                return "-" + absoluteResult;
+            }
+            return absoluteResult;
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * If this is small enough, return integer of this
+     *
+     * @return integer
+     */
+    public int numToInt() {
+        if (this.numDigits > 2) {
+            throw new ArithmeticException("This is too big");
+        }
+
+        int result = 0;
+        if (this.numDigits > 0) {
+            result += digits[0];
+        }
+        if (this.numDigits > 1) {
+            result += digits[1] * this.base;
+        }
+
+        return result;
+    }
+
+    /**
+     * Absolute of big number to string.
+     * The number is split recursively by the cached powers 10 ^ (9 * 2 ^ level),
+     * the quotient and remainder are formatted independently into one char array
+     *
+     * @return the string representative decimal
+     */
+    public String absoluteNumToStr() {
+        OperationProbe probe = OperationProbe.start(Operation.FORMAT, this, null);
+        try {
+            if (this.isZero()) {
+                return "0";
+            }
+
+            // upper bound of the number of decimal digits
+            int length = (int) (numDigits * Math.log10(base)) + 1;
+            char[] chars = new char[length];
+            Arrays.fill(chars, '0');
+            formatDecimal(this.lowerDigits(numDigits), chars, length);
+
+            int first = 0;
+            while (first < length - 1 && chars[first] == '0') {
+                first++;
+            }
+            return new String(chars, first, length - first);
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * Write the decimal of a number into chars, right aligned at end.
+     * The chars before must be filled with '0' already, so the leading zeros are not written
+     *
+     * @param x     non negative big number
+     * @param chars output
+     * @param end   index exclusive of the least significant decimal digit
+     */
+    private static void formatDecimal(jxy132330_Jun_Yu_BigNumber_5 x, char[] chars, int end) {
+        if (x.numDigits <= formatThreshold) {
+            formatDecimalChunks(x, chars, end);
+            return;
+        }
+
+        // the power of ten with about half of the decimal digits of x
+        int halfChunks = (int) (x.numDigits * Math.log10(x.base) / (2 * DECIMAL_CHUNK_LENGTH));
+        if (halfChunks == 0) {
+            formatDecimalChunks(x, chars, end);
+            return;
+        }
+        int level = 31 - Integer.numberOfLeadingZeros(halfChunks);
+        jxy132330_Jun_Yu_BigNumber_5 power = decimalPower(x.base, level);
+        jxy132330_Jun_Yu_BigNumber_5[] qr;
+        if (power.numDigits >= newtonThreshold && x.numDigits > power.numDigits) {
+            // every node of the same level divides by the same power, so its reciprocal is kept
+            qr = decimalDivisor(x.base, level).dividePositive(x);
+        } else {
+            qr = dividePositive(x, power);
+        }
+
+        formatDecimal(qr[1], chars, end);
+        formatDecimal(qr[0], chars, end - (DECIMAL_CHUNK_LENGTH << level));
+    }
+
+    /**
+     * Write the decimal of a small number into chars, 9 decimal digits at a time
+     *
+     * @param x     non negative big number, it is consumed
+     * @param chars output, filled with '0' already
+     * @param end   index exclusive of the least significant decimal digit
+     */
+    private static void formatDecimalChunks(jxy132330_Jun_Yu_BigNumber_5 x, char[] chars, int end) {
+        int[] remaining = x.digits;
+        int length = x.numDigits;
+        int position = end;
+        while (length > 0) {
+            int chunk = divideByIntMagnitude(remaining, length, INT_POWERS_OF_TEN[DECIMAL_CHUNK_LENGTH], remaining, x.base);
+            while (length > 0 && remaining[length - 1] == 0) {
+                length--;
+            }
+
+            for (int i = position - 1; chunk > 0; i--) {
+                chars[i] = (char) ('0' + chunk % 10);
+                chunk /= 10;
+            }
+            position -= DECIMAL_CHUNK_LENGTH;
+        }
+    }
+
+    /**
+     * Append a digit to this big number, this is for only internal operation
+     *
+     * @param digit to be appended
+     */
+    private void addDigit(int digit) {
+        if (digit < 0) {
+            return;
+        }
+        ensureCapacity(numDigits + 1);
+        this.digits[numDigits++] = digit;
+    }
+
+    /**
+     * Prepend a digit to this big number, this is for only internal operation
+     *
+     * @param digit non negative
+     */
+    private void addFirstDigit(int digit) {
+        if (digit < 0) {
+            return;
+        }
+        shiftByBase(1);
+        this.digits[0] = digit;
+    }
+
+    /**
+     * Equivalent to multiply (base * numBase) to this,
+     * that is to prepend numBase 0 digits into digits
+     *
+     * @param numBase the number of node prepend to list
+     */
+    private void shiftByBase(int numBase) {
+        if (numBase <= 0) {
+            return;
+        }
+
+        ensureCapacity(numDigits + numBase);
+        System.arraycopy(digits, 0, digits, numBase, numDigits);
+        Arrays.fill(digits, 0, numBase, 0);
+        numDigits += numBase;
+    }
+
+    /**
+     * Return the big number left shifted from this by num
+     *
+     * @param num the number of digit shifted
+     * @return new big number
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 shiftLeft(int num) {
+        if (num <= 0) {
+            return new jxy132330_Jun_Yu_BigNumber_5(this);
+        }
+        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
+        if (this.isZero()) {
+            return result;
+        }
+        result.digits = new int[numDigits + num];
+        System.arraycopy(digits, 0, result.digits, num, numDigits);
+        result.numDigits = numDigits + num;
+        result.negative = this.negative;
+        return result;
+    }
+
+    /**
+     * Return the big number right shifted from this by num
+     *
+     * @param num the number of digit shifted
+     * @return new big number
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 shiftRight(int num) {
+        if (num <= 0) {
+            return new jxy132330_Jun_Yu_BigNumber_5(this);
+        }
+        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
+        if (num >= numDigits) {
+            return result;
+        }
+        result.digits = Arrays.copyOfRange(digits, num, numDigits);
+        result.numDigits = numDigits - num;
+        result.negative = this.negative;
+        return result;
+    }
+
+    /**
+     * Add this with a big number, is their base not the same, throw a exception
+     *
+     * @param other right operand
+     * @return the result of addition
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 add(jxy132330_Jun_Yu_BigNumber_5 other) {
+        OperationProbe probe = OperationProbe.start(Operation.ADD, this, other);
+        try {
+            if (other == null) {
+                return this;
+            }
+
+            if (this.base != other.getBase()) {
+                // the operand with fewer digits is converted, the result is in the base of the other
+                jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, other);
+                return operands[0].add(operands[1]);
+            }
+
+            return addSigned(this, other, other.isNegative());
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * a + (-1) ^ bNegative * |b|, neither operand is modified,
+     * so that a number can be shared by several threads
+     *
+     * @param a         left operand
+     * @param b         right operand, only the magnitude is used
+     * @param bNegative sign of right operand
+     * @return new big number
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 addSigned(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                          jxy132330_Jun_Yu_BigNumber_5 b, boolean bNegative) {
+        int base = a.base;
+        if (a.negative == bNegative) {
+            // same sign, add the magnitudes
+            int[] sum = new int[Math.max(a.numDigits, b.numDigits) + 1];
+            int sumLength = addMagnitude(a.digits, a.numDigits, b.digits, b.numDigits, sum, base);
+            jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, sum, sumLength);
+            result.negative = bNegative && !result.isZero();
+            return result;
+        }
+
+        // different signs, subtract the smaller magnitude from the larger one
+        int cmp = compareMagnitude(a.digits, a.numDigits, b.digits, b.numDigits);
+        if (cmp == 0) {
+            return new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+        jxy132330_Jun_Yu_BigNumber_5 larger = cmp > 0 ? a : b;
+        jxy132330_Jun_Yu_BigNumber_5 smaller = cmp > 0 ? b : a;
+        int[] difference = new int[larger.numDigits];
+        int differenceLength = subtractMagnitude(larger.digits, larger.numDigits,
+                smaller.digits, smaller.numDigits, difference, base);
+        jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, difference, differenceLength);
+        result.negative = cmp > 0 ? a.negative : bNegative;
+        return result;
+    }
+
+    /**
+     * Sum of two magnitudes, stored into result
+     *
+     * @param a       digits of left operand
+     * @param aLength the number of digits of left operand
+     * @param b       digits of right operand
+     * @param bLength the number of digits of right operand
+     * @param result  output, at least max(aLength, bLength) + 1 long, may be a or b itself
+     * @param base    base of digits
+     * @return the number of digits of result
+     */
+    private static int addMagnitude(int[] a, int aLength, int[] b, int bLength, int[] result, int base) {
+        if (aLength < bLength) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+            int swapLength = aLength;
+            aLength = bLength;
+            bLength = swapLength;
+        }
+
+        // if base is less than 2 ^ 15, the operation will never overflow
+        int carry = 0;
+        int i = 0;
+        for (; i < bLength; i++) {
+            int temp = a[i] + b[i] + carry;
+            if (temp >= base) {
+                carry = 1;
+                temp -= base;
+            } else {
+                carry = 0;
+            }
+            result[i] = temp;
+        }
+        for (; i < aLength; i++) {
+            int temp = a[i] + carry;
+            if (temp >= base) {
+                carry = 1;
+                temp -= base;
+            } else {
+                carry = 0;
+            }
+            result[i] = temp;
+        }
+
+        if (carry == 1) {
+            // last carry
+            result[i++] = 1;
+        }
+        return i;
+    }
+
+    /**
+     * Difference of two magnitudes, a must be larger than or equal to b
+     *
+     * @param a       digits of minuend
+     * @param aLength the number of digits of minuend
+     * @param b       digits of subtrahend
+     * @param bLength the number of digits of subtrahend
+     * @param result  output, at least aLength long, may be a or b itself
+     * @param base    base of digits
+     * @return the number of digits of result, top zeros trimmed
+     */
+    private static int subtractMagnitude(int[] a, int aLength, int[] b, int bLength, int[] result, int base) {
+        // borrow from higher digit, if current digit is less than others current digit
+        int borrow = 0;
+        int i = 0;
+        for (; i < bLength; i++) {
+            int temp = a[i] - (b[i] + borrow);
+            if (temp < 0) {
+                // then digit borrow 1 from higher digit of this big number
+                borrow = 1;
+                temp += base;
+            } else {
+                borrow = 0;
+            }
+            result[i] = temp;
+        }
+        for (; i < aLength; i++) {
+            int temp = a[i] - borrow;
+            if (temp < 0) {
+                borrow = 1;
+                temp += base;
+            } else {
+                borrow = 0;
+            }
+            result[i] = temp;
+        }
+
+        while (i > 0 && result[i - 1] == 0) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Compare two magnitudes, both have no top zeros
+     *
+     * @param a       digits of left operand
+     * @param aLength the number of digits of left operand
+     * @param b       digits of right operand
+     * @param bLength the number of digits of right operand
+     * @return positive if a > b, negative if a < b, otherwise 0
+     */
+    private static int compareMagnitude(int[] a, int aLength, int[] b, int bLength) {
+        if (aLength != bLength) {
+            return (aLength - bLength);
+        }
+
+        // comparison from most significant digit to least
+        for (int i = aLength - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return (a[i] - b[i]);
+            }
+        }
+        // otherwise equal
+        return 0;
+    }
+
+    /**
+     * Absolute compare
+     *
+     * @param o other object
+     * @return int
+     */
+    @Override
+    public int compareTo(jxy132330_Jun_Yu_BigNumber_5 o) {
+        if (o == null) {
+            throw new NullPointerException("The specific object is null");
+        }
+
+        if (this.base != o.getBase()) {
+            jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, o);
+            return operands[0].compareTo(operands[1]);
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 o1 = this;
+
+        // negative and positive
+        if (o1.isNegative() ^ o.isNegative()) {
+            return o1.isNegative() ? -1 : 1;
+        }
+
+        return compareMagnitude(o1.digits, o1.numDigits, o.digits, o.numDigits);
+    }
+
+//    public jxy132330_Jun_Yu_BigNumber_5 subtract(int other) {
+//
+//    }
+
+    /**
+     * Subtract this to other big number
+     *
+     * @param other big number
+     * @return the difference of two big numbers, if less than 0, return 0
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 subtract(jxy132330_Jun_Yu_BigNumber_5 other) {
+        OperationProbe probe = OperationProbe.start(Operation.SUBTRACT, this, other);
+        try {
+            if (other == null) {
+                return this;
+            }
+
+            if (this.base != other.getBase()) {
+                // the operand with fewer digits is converted, the result is in the base of the other
+                jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, other);
+                return operands[0].subtract(operands[1]);
+            }
+
+            return addSigned(this, other, !other.isNegative());
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * This big number multiplied with a integer
+     *
+     * @param other integer
+     * @return big number product
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 multiply(int other) {
+        OperationProbe probe = OperationProbe.start(Operation.MULTIPLY, base, numDigits, 1);
+        try {
+            if (other < 0) {
+                jxy132330_Jun_Yu_BigNumber_5 result = multiply(Math.abs(other));
+                result.negate();
+                return result;
+            }
+
+            if (other == 0 || this.isZero()) {
+                return new jxy132330_Jun_Yu_BigNumber_5(this.base);
+            }
+
+            // the last carry is less than other, so it never takes more digits than other
+            int[] product = new int[this.numDigits + carryDigits(other, this.base)];
+            int productLength = multiplyByIntMagnitude(this.digits, this.numDigits, other, product, this.base);
+            jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(this.base, product, productLength);
+            result.negative = this.negative && !result.isZero();
+            return result;
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * The number of digits needed to hold a non negative integer in base
+     *
+     * @param value non negative integer
+     * @param base  base of digits
+     * @return the number of digits, at least 1
+     */
+    private static int carryDigits(long value, int base) {
+        int count = 1;
+        while (value >= base) {
+            value /= base;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Magnitude multiplied with a non negative integer
+     *
+     * @param a       digits of big number
+     * @param aLength the number of digits
+     * @param other   non negative integer, less than 2 ^ 32
+     * @param result  output, may be a itself, long enough to hold carries
+     * @param base    base of digits
+     * @return the number of digits of result
+     */
+    private static int multiplyByIntMagnitude(int[] a, int aLength, long other, int[] result, int base) {
+        long carry = 0;
+        int i = 0;
+        for (; i < aLength; i++) {
+            long temp = (long) a[i] * other + carry;
+            carry = temp / base;
+            result[i] = (int) (temp - carry * base);
+        }
+
+        // Don't forget the last carry
+        while (carry > 0) {
+            long next = carry / base;
+            result[i++] = (int) (carry - next * base);
+            carry = next;
+        }
+        return i;
+    }
+
+    /**
+     * This big number multiplied with a big number
+     *
+     * @param other big number
+     * @return big number product
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 other) {
+        OperationProbe probe = OperationProbe.start(Operation.MULTIPLY, this, other);
+        try {
+            if (other == null) {
+                return this;
+            }
+
+            if (this == other) {
+                return this.square();
+            }
+
+            if (this.base != other.getBase()) {
+                // the operand with fewer digits is converted, the result is in the base of the other
+                jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, other);
+                return operands[0].multiply(operands[1]);
+            }
+
+            // the magnitudes are multiplied and the sign is set afterwards,
+            // the operands are never modified, so they can be shared by several threads
+            jxy132330_Jun_Yu_BigNumber_5 result = multiplyPositive(this, other);
+            result.negative = (this.negative ^ other.negative) && !result.isZero();
+            return result;
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * Product of the magnitudes of two big numbers with the same base,
+     * choose the algorithm by the number of digits of the shorter operand
+     *
+     * @param a left operand, the sign is ignored
+     * @param b right operand, the sign is ignored
+     * @return non negative product
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 multiplyPositive(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                 jxy132330_Jun_Yu_BigNumber_5 b) {
+        int base = a.base;
+        if (a.isZero() || b.isZero()) {
+            return new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+
+        int shorter = Math.min(a.numDigits, b.numDigits);
+        int longer = Math.max(a.numDigits, b.numDigits);
+
+        if (isParallel(shorter) && !inParallelPool()) {
+            // the same algorithm as below, run on the pool where its independent parts are forked
+            return parallelPool().invoke(new MultiplyTask(a, b));
+        }
+
+        if (shorter >= fftThreshold && fitsFFT(a.numDigits, b.numDigits, base)) {
+            return multiplyFFT(a, b);
+        }
+
+        if (shorter < karatsubaThreshold) {
+            int[] product = new int[a.numDigits + b.numDigits];
+            multiplyMagnitude(a.digits, a.numDigits, b.digits, b.numDigits, product, base);
+            return fromDigits(base, product, product.length);
+        }
+
+        if (longer >= 2 * shorter) {
+            // Karatsuba and Toom-Cook only pay off for operands of similar length
+            return multiplyUnbalanced(a, b);
+        }
+
+        if (shorter < toomCookThreshold) {
+            return multiplyKaratsuba(a, b);
+        }
+        return multiplyToomCook3(a, b);
+    }
+
+    /**
+     * Product of two magnitudes, schoolbook method.
+     * Every digit of result is the sum of a column of digit products,
+     * so the division by base happens once per column rather than once per digit product
+     *
+     * @param a       digits of left operand
+     * @param aLength the number of digits of left operand
+     * @param b       digits of right operand
+     * @param bLength the number of digits of right operand
+     * @param result  output, at least aLength + bLength long, must not be a or b
+     * @param base    base of digits
+     */
+    private static void multiplyMagnitude(int[] a, int aLength, int[] b, int bLength, int[] result, int base) {
+        // digit * digit is less than 2 ^ 30 when base is less than 2 ^ 15,
+        // the sum of a column never overflows long unless there are more than 2 ^ 32 digits
+        long carry = 0;
+        int last = aLength + bLength - 2;
+        for (int k = 0; k <= last; k++) {
+            long sum = carry;
+            int from = Math.max(0, k - bLength + 1);
+            int to = Math.min(k, aLength - 1);
+            for (int i = from; i <= to; i++) {
+                sum += a[i] * b[k - i];
+            }
+            carry = sum / base;
+            result[k] = (int) (sum - carry * base);
+        }
+        result[last + 1] = (int) carry;
+    }
+
+    /**
+     * Add digits to result at offset, result must be long enough to absorb the carry
+     *
+     * @param result  digits to add to
+     * @param offset  position where the least significant digit of a is added
+     * @param a       digits to be added
+     * @param aLength the number of digits of a
+     * @param base    base of digits
+     */
+    private static void addDigitsAt(int[] result, int offset, int[] a, int aLength, int base) {
+        int carry = 0;
+        int i = 0;
+        for (; i < aLength; i++) {
+            int temp = result[offset + i] + a[i] + carry;
+            if (temp >= base) {
+                carry = 1;
+                temp -= base;
+            } else {
+                carry = 0;
+            }
+            result[offset + i] = temp;
+        }
+        for (int k = offset + i; carry > 0; k++) {
+            int temp = result[k] + carry;
+            if (temp >= base) {
+                temp -= base;
+            } else {
+                carry = 0;
+            }
+            result[k] = temp;
+        }
+    }
+
+    /**
+     * Return the big number made of the lowest num digits of this, without sign
+     *
+     * @param num the number of digits
+     * @return new big number
+     */
+    private jxy132330_Jun_Yu_BigNumber_5 lowerDigits(int num) {
+        if (num >= numDigits) {
+            return fromDigits(base, Arrays.copyOf(digits, numDigits), numDigits);
+        }
+        return fromDigits(base, Arrays.copyOf(digits, num), num);
+    }
+
+    /**
+     * Return the big number made of digits [from, to) of this, without sign
+     *
+     * @param from index inclusive
+     * @param to   index exclusive
+     * @return new big number
+     */
+    private jxy132330_Jun_Yu_BigNumber_5 sliceDigits(int from, int to) {
+        to = Math.min(to, numDigits);
+        if (from >= to) {
+            return new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+        return fromDigits(base, Arrays.copyOfRange(digits, from, to), to - from);
+    }
+
+    /**
+     * Product of a long operand and a much shorter one,
+     * the long operand is cut into pieces as long as the short one,
+     * so that every partial product is balanced
+     *
+     * @param a left operand, the sign is ignored
+     * @param b right operand, the sign is ignored
+     * @return non negative product
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 multiplyUnbalanced(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                   jxy132330_Jun_Yu_BigNumber_5 b) {
+        if (a.numDigits < b.numDigits) {
+            jxy132330_Jun_Yu_BigNumber_5 swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int chunk = b.numDigits;
+        int pieces = (a.numDigits + chunk - 1) / chunk;
+        jxy132330_Jun_Yu_BigNumber_5[] left = new jxy132330_Jun_Yu_BigNumber_5[pieces];
+        jxy132330_Jun_Yu_BigNumber_5[] right = new jxy132330_Jun_Yu_BigNumber_5[pieces];
+        for (int i = 0; i < pieces; i++) {
+            left[i] = a.sliceDigits(i * chunk, (i + 1) * chunk);
+            right[i] = b;
+        }
+        jxy132330_Jun_Yu_BigNumber_5[] partials = multiplyAll(left, right, isParallel(chunk));
+
+        int[] product = new int[a.numDigits + b.numDigits];
+        for (int i = 0; i < pieces; i++) {
+            addDigitsAt(product, i * chunk, partials[i].digits, partials[i].numDigits, a.base);
+        }
+        return fromDigits(a.base, product, product.length);
+    }
+
+    /**
+     * Whether a product of operands of some length is split into parallel sub-products
+     *
+     * @param shorter the number of digits of the shorter operand
+     * @return true if parallel multiplication is enabled and the operand is long enough
+     */
+    private static boolean isParallel(int shorter) {
+        return parallelism > 1 && shorter >= parallelThreshold;
+    }
+
+    private static ForkJoinPool parallelPool() {
+        ForkJoinPool pool = parallelPool;
+        if (pool == null) {
+            synchronized (jxy132330_Jun_Yu_BigNumber_5.class) {
+                pool = parallelPool;
+                if (pool == null) {
+                    pool = new ForkJoinPool(parallelism);
+                    parallelPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Whether the current thread is a worker of the parallel pool, so that sub-products may be forked.
+     * A worker of another pool, such as the common pool of a parallel stream, must not fork into it
+     *
+     * @return true on a worker of parallelPool
+     */
+    private static boolean inParallelPool() {
+        ForkJoinPool pool = parallelPool;
+        return pool != null && ForkJoinTask.getPool() == pool;
+    }
+
+    /**
+     * Products of pairs of magnitudes, forked as separate tasks when parallel,
+     * otherwise computed one after another
+     *
+     * @param left     left operands
+     * @param right    right operands, null stands for the square of the left operand
+     * @param parallel whether to fork, only takes effect on a worker of the parallel pool
+     * @return non negative products
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] multiplyAll(jxy132330_Jun_Yu_BigNumber_5[] left,
+                                                              jxy132330_Jun_Yu_BigNumber_5[] right,
+                                                              boolean parallel) {
+        jxy132330_Jun_Yu_BigNumber_5[] products = new jxy132330_Jun_Yu_BigNumber_5[left.length];
+        if (parallel && inParallelPool()) {
+            MultiplyTask[] tasks = new MultiplyTask[left.length];
+            for (int i = 0; i < left.length; i++) {
+                tasks[i] = new MultiplyTask(left[i], right[i]);
+            }
+            ForkJoinTask.invokeAll(tasks);
+            for (int i = 0; i < left.length; i++) {
+                products[i] = tasks[i].join();
+            }
+            return products;
+        }
+
+        for (int i = 0; i < left.length; i++) {
+            products[i] = right[i] == null ? squarePositive(left[i]) : multiplyPositive(left[i], right[i]);
+        }
+        return products;
+    }
+
+    /**
+     * One sub-product of a parallel multiplication,
+     * the operands are only read, so sub-products may share them
+     */
+    private static class MultiplyTask extends RecursiveTask<jxy132330_Jun_Yu_BigNumber_5> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final jxy132330_Jun_Yu_BigNumber_5 left;
+        // null for the square of left
+        private final jxy132330_Jun_Yu_BigNumber_5 right;
+
+        MultiplyTask(jxy132330_Jun_Yu_BigNumber_5 left, jxy132330_Jun_Yu_BigNumber_5 right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        protected jxy132330_Jun_Yu_BigNumber_5 compute() {
+            return right == null ? squarePositive(left) : multiplyPositive(left, right);
+        }
+    }
+
+    /**
+     * Karatsuba multiplication.
+     * a = a1 * base ^ half + a0, b = b1 * base ^ half + b0, then
+     * a * b = a1 * b1 * base ^ (2 * half) + ((a0 + a1) * (b0 + b1) - a1 * b1 - a0 * b0) * base ^ half + a0 * b0,
+     * three half size products instead of four
+     * Reference: <a href="https://en.wikipedia.org/wiki/Karatsuba_algorithm">Karatsuba algorithm</a>
+     *
+     * @param a left operand, the sign is ignored
+     * @param b right operand, the sign is ignored
+     * @return non negative product
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 multiplyKaratsuba(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                  jxy132330_Jun_Yu_BigNumber_5 b) {
+        int half = (Math.max(a.numDigits, b.numDigits) + 1) / 2;
+
+        jxy132330_Jun_Yu_BigNumber_5 a0 = a.lowerDigits(half);
+        jxy132330_Jun_Yu_BigNumber_5 a1 = a.sliceDigits(half, a.numDigits);
+        jxy132330_Jun_Yu_BigNumber_5 b0 = b.lowerDigits(half);
+        jxy132330_Jun_Yu_BigNumber_5 b1 = b.sliceDigits(half, b.numDigits);
+
+        jxy132330_Jun_Yu_BigNumber_5 high = multiplyPositive(a1, b1);
+        jxy132330_Jun_Yu_BigNumber_5 low = multiplyPositive(a0, b0);
+        jxy132330_Jun_Yu_BigNumber_5 middle = multiplyPositive(a0.add(a1), b0.add(b1));
+
+        // every partial sum is non negative, so the product is accumulated in one buffer
+        MutableBigNumber product = new MutableBigNumber(a.base, a.numDigits + b.numDigits + 1);
+        product.addTo(low).addShifted(high, 2 * half).addShifted(middle, half)
+                .subtractShifted(high, half).subtractShifted(low, half);
+        return product.takeBigNumber();
+    }
+
+    /**
+     * Toom-Cook 3-way multiplication, every operand is split into three parts,
+     * the product is interpolated from five products of one third size,
+     * with the evaluation points 0, 1, -1, 2 and infinity.
+     * Reference: <a href="http://www.csd.uwo.ca/~eschost/Exam/WhatAboutToomCookMatricesOptimality.pdf">Bodrato's sequence</a>
+     *
+     * @param a left operand, the sign is ignored
+     * @param b right operand, the sign is ignored
+     * @return non negative product
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 multiplyToomCook3(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                  jxy132330_Jun_Yu_BigNumber_5 b) {
+        int third = (Math.max(a.numDigits, b.numDigits) + 2) / 3;
+
+        jxy132330_Jun_Yu_BigNumber_5 a0 = a.lowerDigits(third);
+        jxy132330_Jun_Yu_BigNumber_5 a1 = a.sliceDigits(third, 2 * third);
+        jxy132330_Jun_Yu_BigNumber_5 a2 = a.sliceDigits(2 * third, a.numDigits);
+        jxy132330_Jun_Yu_BigNumber_5 b0 = b.lowerDigits(third);
+        jxy132330_Jun_Yu_BigNumber_5 b1 = b.sliceDigits(third, 2 * third);
+        jxy132330_Jun_Yu_BigNumber_5 b2 = b.sliceDigits(2 * third, b.numDigits);
+
+        // evaluation at 0, 1, -1, 2 and infinity
+        jxy132330_Jun_Yu_BigNumber_5 da1 = a2.add(a0);
+        jxy132330_Jun_Yu_BigNumber_5 db1 = b2.add(b0);
+        jxy132330_Jun_Yu_BigNumber_5 dam1 = da1.subtract(a1);
+        jxy132330_Jun_Yu_BigNumber_5 dbm1 = db1.subtract(b1);
+        da1 = da1.add(a1);
+        db1 = db1.add(b1);
+        jxy132330_Jun_Yu_BigNumber_5 da2 = da1.add(a2).multiply(2).subtract(a0);
+        jxy132330_Jun_Yu_BigNumber_5 db2 = db1.add(b2).multiply(2).subtract(b0);
+
+        jxy132330_Jun_Yu_BigNumber_5[] v = multiplyAll(
+                new jxy132330_Jun_Yu_BigNumber_5[]{a0, da1, dam1, da2, a2},
+                new jxy132330_Jun_Yu_BigNumber_5[]{b0, db1, dbm1, db2, b2},
+                isParallel(Math.min(a.numDigits, b.numDigits)));
+        // the value at -1 is the only one may be negative
+        v[2].negative = (dam1.negative ^ dbm1.negative) && !v[2].isZero();
+
+        return interpolateToomCook3(v[0], v[1], v[2], v[3], v[4], third, a.numDigits + b.numDigits + 1);
+    }
+
+    /**
+     * Interpolation and recomposition of Toom-Cook 3-way,
+     * from the values of the product polynomial at 0, 1, -1, 2 and infinity
+     *
+     * @param v0            value at 0
+     * @param v1            value at 1
+     * @param vm1           value at -1
+     * @param v2            value at 2
+     * @param vinf          value at infinity
+     * @param third         the number of digits of every part
+     * @param productLength upper bound of the number of digits of the product
+     * @return non negative product
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 interpolateToomCook3(jxy132330_Jun_Yu_BigNumber_5 v0,
+                                                                     jxy132330_Jun_Yu_BigNumber_5 v1,
+                                                                     jxy132330_Jun_Yu_BigNumber_5 vm1,
+                                                                     jxy132330_Jun_Yu_BigNumber_5 v2,
+                                                                     jxy132330_Jun_Yu_BigNumber_5 vinf,
+                                                                     int third, int productLength) {
+        int base = v0.base;
+
+        // interpolation in place, all divisions are exact
+        MutableBigNumber t2 = new MutableBigNumber(v2).subtractFrom(vm1);
+        t2.divideByIntInPlace(3);
+        MutableBigNumber tm1 = new MutableBigNumber(v1).subtractFrom(vm1);
+        tm1.divideByIntInPlace(2);
+        MutableBigNumber t1 = new MutableBigNumber(v1).subtractFrom(v0);
+        t2.subtractFrom(t1).divideByIntInPlace(2);
+        t1.subtractFrom(tm1).subtractFrom(vinf);
+        t2.subtractFrom(vinf).subtractFrom(vinf);
+        tm1.subtractFrom(t2);
+
+        // recomposition, every coefficient is non negative now
+        MutableBigNumber product = new MutableBigNumber(base, productLength);
+        product.addTo(v0).addShifted(vinf, 4 * third).addShifted(tm1.takeBigNumber(), third)
+                .addShifted(t1.takeBigNumber(), 2 * third).addShifted(t2.takeBigNumber(), 3 * third);
+        return product.takeBigNumber();
+    }
+
+    /**
+     * Square of this big number, cheaper than multiply because the symmetric products are computed once
+     *
+     * @return big number square, never negative
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 square() {
+        OperationProbe probe = OperationProbe.start(Operation.SQUARE, this, this);
+        try {
+            return squarePositive(this);
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * Square of the magnitude of a big number,
+     * choose the algorithm by the number of digits like multiplyPositive
+     *
+     * @param a operand, the sign is ignored
+     * @return non negative square
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 squarePositive(jxy132330_Jun_Yu_BigNumber_5 a) {
+        int base = a.base;
+        if (a.isZero()) {
+            return new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+
+        int n = a.numDigits;
+        if (isParallel(n) && !inParallelPool()) {
+            return parallelPool().invoke(new MultiplyTask(a, null));
+        }
+
+        if (n >= fftThreshold && fitsFFT(n, n, base)) {
+            return multiplyFFT(a, a);
+        }
+
+        if (n < karatsubaThreshold) {
+            int[] square = new int[2 * n];
+            squareMagnitude(a.digits, n, square, base);
+            return fromDigits(base, square, square.length);
+        }
+
+        if (n < toomCookThreshold) {
+            return squareKaratsuba(a);
+        }
+        return squareToomCook3(a);
+    }
+
+    /**
+     * Square of a magnitude, schoolbook method.
+     * The column k of the square is 2 * sum(a[i] * a[k - i]) for i < k - i, plus a[k / 2] ^ 2 if k is even,
+     * so every cross product is computed only once
+     *
+     * @param a       digits of operand
+     * @param aLength the number of digits of operand
+     * @param result  output, at least 2 * aLength long, must not be a
+     * @param base    base of digits
+     */
+    private static void squareMagnitude(int[] a, int aLength, int[] result, int base) {
+        long carry = 0;
+        int last = 2 * aLength - 2;
+        for (int k = 0; k <= last; k++) {
+            long cross = 0;
+            int from = Math.max(0, k - aLength + 1);
+            for (int i = from; i < k - i; i++) {
+                cross += a[i] * a[k - i];
+            }
+
+            long sum = (cross << 1) + carry;
+            if ((k & 1) == 0) {
+                int middle = a[k >> 1];
+                sum += middle * middle;
+            }
+            carry = sum / base;
+            result[k] = (int) (sum - carry * base);
+        }
+        result[last + 1] = (int) carry;
+    }
+
+    /**
+     * Karatsuba squaring.
+     * a ^ 2 = a1 ^ 2 * base ^ (2 * half) + ((a0 + a1) ^ 2 - a1 ^ 2 - a0 ^ 2) * base ^ half + a0 ^ 2
+     *
+     * @param a operand, the sign is ignored
+     * @return non negative square
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 squareKaratsuba(jxy132330_Jun_Yu_BigNumber_5 a) {
+        int half = (a.numDigits + 1) / 2;
+
+        jxy132330_Jun_Yu_BigNumber_5 a0 = a.lowerDigits(half);
+        jxy132330_Jun_Yu_BigNumber_5 a1 = a.sliceDigits(half, a.numDigits);
+
+        jxy132330_Jun_Yu_BigNumber_5 high = squarePositive(a1);
+        jxy132330_Jun_Yu_BigNumber_5 low = squarePositive(a0);
+        jxy132330_Jun_Yu_BigNumber_5 middle = squarePositive(a0.add(a1));
+
+        MutableBigNumber square = new MutableBigNumber(a.base, 2 * a.numDigits + 1);
+        square.addTo(low).addShifted(high, 2 * half).addShifted(middle, half)
+                .subtractShifted(high, half).subtractShifted(low, half);
+        return square.takeBigNumber();
+    }
+
+    /**
+     * Toom-Cook 3-way squaring, five squares of one third size
+     *
+     * @param a operand, the sign is ignored
+     * @return non negative square
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 squareToomCook3(jxy132330_Jun_Yu_BigNumber_5 a) {
+        int third = (a.numDigits + 2) / 3;
+
+        jxy132330_Jun_Yu_BigNumber_5 a0 = a.lowerDigits(third);
+        jxy132330_Jun_Yu_BigNumber_5 a1 = a.sliceDigits(third, 2 * third);
+        jxy132330_Jun_Yu_BigNumber_5 a2 = a.sliceDigits(2 * third, a.numDigits);
+
+        // evaluation at 0, 1, -1, 2 and infinity
+        jxy132330_Jun_Yu_BigNumber_5 da1 = a2.add(a0);
+        jxy132330_Jun_Yu_BigNumber_5 dam1 = da1.subtract(a1);
+        da1 = da1.add(a1);
+        jxy132330_Jun_Yu_BigNumber_5 da2 = da1.add(a2).multiply(2).subtract(a0);
+
+        // null right operands stand for squares
+        jxy132330_Jun_Yu_BigNumber_5[] v = multiplyAll(
+                new jxy132330_Jun_Yu_BigNumber_5[]{a0, da1, dam1, da2, a2},
+                new jxy132330_Jun_Yu_BigNumber_5[5], isParallel(a.numDigits));
+
+        return interpolateToomCook3(v[0], v[1], v[2], v[3], v[4], third, 2 * a.numDigits + 1);
+    }
+
+    /**
+     * Whether the product of two magnitudes can be computed by multiplyFFT exactly
+     *
+     * @param aLength the number of digits of left operand
+     * @param bLength the number of digits of right operand
+     * @param base    base of digits
+     * @return true if the transform is long enough and no coefficient exceeds the product of the primes
+     */
+    private static boolean fitsFFT(int aLength, int bLength, int base) {
+        if ((long) aLength + bLength > FFT_MAX_LENGTH) {
+            return false;
+        }
+        double maxCoefficient = (double) Math.min(aLength, bLength) * (base - 1) * (base - 1);
+        return maxCoefficient < (double) FFT_PRIME1 * FFT_PRIME2 / 2;
+    }
+
+    /**
+     * Multiplication by number theoretic transform.
+     * The digits are the coefficients of polynomials, the cyclic convolution is computed
+     * modulo two primes, then combined by Chinese remainder theorem and the carries are propagated.
+     * On the parallel pool the two primes and the two forward transforms of each are forked,
+     * the transform stays one transform, so the work is the same as sequential.
+     * Reference: <a href="https://en.wikipedia.org/wiki/Sch%C3%B6nhage%E2%80%93Strassen_algorithm">Multiplication by FFT</a>
+     *
+     * @param a non negative left operand
+     * @param b non negative right operand
+     * @return non negative product
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 multiplyFFT(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                            jxy132330_Jun_Yu_BigNumber_5 b) {
+        int productLength = a.numDigits + b.numDigits;
+        int n = Integer.highestOneBit(productLength - 1) << 1;
+        boolean parallel = isParallel(Math.min(a.numDigits, b.numDigits)) && inParallelPool();
+
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.open();
+        try {
+            // the arrays are taken from the arena of this thread, the forked tasks only fill them
+            ConvolutionTask first = new ConvolutionTask(a, b, n, FFT_PRIME1, FFT_ROOT1, arena, parallel);
+            ConvolutionTask second = new ConvolutionTask(a, b, n, FFT_PRIME2, FFT_ROOT2, arena, parallel);
+            long[] residue1;
+            long[] residue2;
+            if (parallel) {
+                ForkJoinTask.invokeAll(first, second);
+                residue1 = first.join();
+                residue2 = second.join();
+            } else {
+                residue1 = first.compute();
+                residue2 = second.compute();
+            }
+
+            return fromDigits(a.base, combineResidues(residue1, residue2, productLength, a.base), productLength);
+        } finally {
+            arena.close(mark);
+        }
+    }
+
+    /**
+     * Convolution modulo one prime of multiplyFFT, with its arrays taken by the thread creating the task
+     */
+    private static class ConvolutionTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final jxy132330_Jun_Yu_BigNumber_5 a;
+        private final jxy132330_Jun_Yu_BigNumber_5 b;
+        private final int n;
+        private final long prime;
+        private final long root;
+        private final long[] roots;
+        private final long[] fa;
+        // the same array as fa for a square
+        private final long[] fb;
+        private final boolean parallel;
+
+        ConvolutionTask(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b, int n,
+                        long prime, long root, ScratchArena arena, boolean parallel) {
+            this.a = a;
+            this.b = b;
+            this.n = n;
+            this.prime = prime;
+            this.root = root;
+            this.roots = arena.longs(Math.max(1, n / 2));
+            this.fa = arena.longs(n);
+            this.fb = a == b ? fa : arena.longs(n);
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected long[] compute() {
+            return convolutionModPrime(a, b, n, prime, root, roots, fa, fb, parallel);
+        }
+    }
+
+    /**
+     * Forward transform of one operand, forked beside the transform of the other
+     */
+    private static class TransformTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final int n;
+        private final long[] roots;
+        private final long prime;
+
+        TransformTask(long[] values, int n, long[] roots, long prime) {
+            this.values = values;
+            this.n = n;
+            this.roots = roots;
+            this.prime = prime;
+        }
+
+        @Override
+        protected void compute() {
+            transform(values, n, roots, prime);
+        }
+    }
+
+    /**
+     * Chinese remaindering of the convolution modulo two primes, then propagate the carries in base
+     *
+     * @param residue1      convolution modulo FFT_PRIME1
+     * @param residue2      convolution modulo FFT_PRIME2
+     * @param productLength the number of digits of the product
+     * @param base          base of digits
+     * @return digits of product
+     */
+    private static int[] combineResidues(long[] residue1, long[] residue2, int productLength, int base) {
+        int[] product = new int[productLength];
+        long carry = 0;
+        for (int i = 0; i < productLength; i++) {
+            // x = r1 + p1 * ((r2 - r1) * p1 ^ -1 mod p2) is less than p1 * p2 < 2 ^ 62
+            long diff = residue2[i] - residue1[i] % FFT_PRIME2;
+            if (diff < 0) {
+                diff += FFT_PRIME2;
+            }
+            long coefficient = residue1[i] + FFT_PRIME1 * (diff * FFT_PRIME1_INVERSE % FFT_PRIME2) + carry;
+            carry = coefficient / base;
+            product[i] = (int) (coefficient - carry * base);
+        }
+        return product;
+    }
+
+    /**
+     * Cyclic convolution of the digits of a and b modulo prime, n must be a power of 2
+     *
+     * @param a        left operand
+     * @param b        right operand
+     * @param n        length of transform
+     * @param prime    prime of the form c * 2 ^ k + 1, 2 ^ k >= n
+     * @param root     primitive root of prime
+     * @param roots    output of the roots, at least n / 2 long
+     * @param fa       zeros, at least n long, output of the convolution
+     * @param fb       zeros, at least n long, fa for a square
+     * @param parallel whether to fork the transform of b, on a worker of the parallel pool
+     * @return fa, the coefficient i is the digit i of the product before carrying
+     */
+    private static long[] convolutionModPrime(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b,
+                                              int n, long prime, long root, long[] roots, long[] fa, long[] fb,
+                                              boolean parallel) {
+        transformRoots(roots, n, prime, root);
+
+        for (int i = 0; i < a.numDigits; i++) {
+            fa[i] = a.digits[i];
+        }
+        if (fb == fa) {
+            // squaring needs only one forward transform
+            transform(fa, n, roots, prime);
+        } else {
+            for (int i = 0; i < b.numDigits; i++) {
+                fb[i] = b.digits[i];
+            }
+            if (parallel) {
+                ForkJoinTask.invokeAll(new TransformTask(fa, n, roots, prime), new TransformTask(fb, n, roots, prime));
+            } else {
+                transform(fa, n, roots, prime);
+                transform(fb, n, roots, prime);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            fa[i] = fa[i] * fb[i] % prime;
+        }
+        return inverseTransform(fa, n, roots, prime);
+    }
+
+    /**
+     * Powers of the principal n-th root of unity modulo prime
+     *
+     * @param roots output of w ^ 0, w ^ 1, ..., w ^ (n / 2 - 1), at least n / 2 long
+     * @param n     length of transform, power of 2
+     * @param prime prime of the form c * 2 ^ k + 1, 2 ^ k >= n
+     * @param root  primitive root of prime
+     */
+    private static void transformRoots(long[] roots, int n, long prime, long root) {
+        long w = modPowLong(root, (prime - 1) / n, prime);
+        roots[0] = 1;
+        for (int i = 1; i < n / 2; i++) {
+            roots[i] = roots[i - 1] * w % prime;
+        }
+    }
+
+    /**
+     * In place iterative radix 2 number theoretic transform of values[0, n), the result is in natural order
+     *
+     * @param values coefficients, less than prime, at least n long
+     * @param n      length of transform, a power of 2
+     * @param roots  powers of the n-th root of unity from transformRoots
+     * @param prime  modulus
+     */
+    private static void transform(long[] values, int n, long[] roots, long prime) {
+
+        // bit reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        for (int length = 2; length <= n; length <<= 1) {
+            int halfLength = length >> 1;
+            int stride = n / length;
+            for (int start = 0; start < n; start += length) {
+                for (int k = 0; k < halfLength; k++) {
+                    long u = values[start + k];
+                    long v = values[start + k + halfLength] * roots[k * stride] % prime;
+                    long sum = u + v;
+                    values[start + k] = sum >= prime ? sum - prime : sum;
+                    long diff = u - v;
+                    values[start + k + halfLength] = diff < 0 ? diff + prime : diff;
+                }
+            }
+        }
+    }
+
+    /**
+     * Inverse transform, using the transform with reversed order of outputs and scaled by n ^ -1
+     *
+     * @param values transformed coefficients, modified in place, at least n long
+     * @param n      length of transform, a power of 2
+     * @param roots  powers of the n-th root of unity from transformRoots
+     * @param prime  modulus
+     * @return values, the coefficients are in [0, n)
+     */
+    private static long[] inverseTransform(long[] values, int n, long[] roots, long prime) {
+        transform(values, n, roots, prime);
+
+        // the transform with w is the inverse transform with w ^ -1 if outputs 1 .. n - 1 are reversed
+        for (int i = 1, j = n - 1; i < j; i++, j--) {
+            long swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+
+        long nInverse = modPowLong(n, prime - 2, prime);
+        for (int i = 0; i < n; i++) {
+            values[i] = values[i] * nInverse % prime;
+        }
+        return values;
+    }
+
+    /**
+     * Modular exponentiation for long, modulus must be less than 2 ^ 31
+     *
+     * @param value    base
+     * @param exponent non negative exponent
+     * @param modulus  positive modulus
+     * @return value ^ exponent mod modulus
+     */
+    private static long modPowLong(long value, long exponent, long modulus) {
+        long result = 1;
+        value %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * value % modulus;
+            }
+            value = value * value % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Big number divided by integer
+     *
+     * @param divisor integer
+     * @param result  for output the result of division, you have to initialize it in caller before calling
+     * @return remnant
+     */
+    public int divideByInt(int divisor, jxy132330_Jun_Yu_BigNumber_5 result) {
+        OperationProbe probe = OperationProbe.start(Operation.DIVIDE, base, numDigits, 1);
+        try {
+            if (divisor == 0) {
+                throw new IllegalArgumentException("Argument 'divisor' is 0");
+            }
+
+            // for abs of divisor < base
+            // for convenience, divisor will be converted to its absolute
+            boolean isResultNegative;
+
+            isResultNegative = (divisor < 0) ^ (this.isNegative());
+
+            if (this.isZero()) {
+                isResultNegative = false;
+            }
+
+            // remnant * base + digit fits in long even for the largest divisor
+            long absDivisor = Math.abs((long) divisor);
+
+            int[] quotient = new int[this.numDigits];
+            int remnant = divideByIntMagnitude(this.digits, this.numDigits, absDivisor, quotient, this.base);
+
+            result.digits = quotient;
+            result.numDigits = quotient.length;
+            result.trimTopZeros();
+            result.negative = isResultNegative && !result.isZero();
+
+            return remnant;
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * Magnitude divided by a positive integer
+     *
+     * @param a        digits of dividend
+     * @param aLength  the number of digits of dividend
+     * @param divisor  positive, less than 2 ^ 32
+     * @param quotient output, at least aLength long, may be a itself, top zeros are not trimmed
+     * @param base     base of digits
+     * @return remnant
+     */
+    private static int divideByIntMagnitude(int[] a, int aLength, long divisor, int[] quotient, int base) {
+        long remnant = 0;
+        for (int i = aLength - 1; i >= 0; i--) {
+            long temp = a[i] + remnant * base;
+            long newDigit = temp / divisor;
+            remnant = temp - newDigit * divisor;
+            quotient[i] = (int) newDigit;
+        }
+        return (int) remnant;
+    }
+
+    /**
+     * Big number divided by big number, the quotient is truncated toward zero
+     *
+     * @param divisor big number
+     * @return result
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 divide(jxy132330_Jun_Yu_BigNumber_5 divisor) {
+        return divideAndRemainder(divisor)[0];
+    }
+
+    /**
+     * Big number divided by big number, returns both quotient and remainder.
+     * The quotient is truncated toward zero, the remainder has the same sign as this,
+     * so that this = quotient * divisor + remainder
+     *
+     * @param divisor big number
+     * @return array of quotient and remainder
+     */
+    public jxy132330_Jun_Yu_BigNumber_5[] divideAndRemainder(jxy132330_Jun_Yu_BigNumber_5 divisor) {
+        OperationProbe probe = OperationProbe.start(Operation.DIVIDE, this, divisor);
+        try {
+            if (divisor == null || divisor.isZero()) {
+                throw new IllegalArgumentException("divisor is null or zero");
+            }
+
+            if (this.base != divisor.getBase()) {
+                jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, divisor);
+                return operands[0].divideAndRemainder(operands[1]);
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5[] result = dividePositive(this, divisor);
+            if (this.isNegative() ^ divisor.isNegative()) {
+                result[0].negate();
+            }
+            if (this.isNegative()) {
+                result[1].negate();
+            }
+            return result;
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * Division of the magnitudes of two big numbers,
+     * choose the algorithm by the number of digits of divisor and the difference of lengths
+     *
+     * @param a dividend, the sign is ignored
+     * @param b divisor, not zero, the sign is ignored
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] dividePositive(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                 jxy132330_Jun_Yu_BigNumber_5 b) {
+        if (b.numDigits >= newtonThreshold && a.numDigits > b.numDigits) {
+            return new PreparedDivisor(b).dividePositive(a);
+        }
+        if (b.numDigits >= burnikelZieglerThreshold && a.numDigits - b.numDigits >= burnikelZieglerOffset) {
+            return divideBurnikelZiegler(a, b);
+        }
+        return divideSchoolbook(a, b);
+    }
+
+    /**
+     * Division of the magnitudes of two big numbers, quadratic algorithms only
+     *
+     * @param a dividend, the sign is ignored
+     * @param b divisor, not zero, the sign is ignored
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] divideSchoolbook(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                   jxy132330_Jun_Yu_BigNumber_5 b) {
+        int base = a.base;
+        if (compareMagnitude(a.digits, a.numDigits, b.digits, b.numDigits) < 0) {
+            return new jxy132330_Jun_Yu_BigNumber_5[]{
+                    new jxy132330_Jun_Yu_BigNumber_5(base), fromDigits(base, Arrays.copyOf(a.digits, a.numDigits), a.numDigits)};
+        }
+
+        if (b.numDigits == 1) {
+            int[] quotient = new int[a.numDigits];
+            int remnant = divideByIntMagnitude(a.digits, a.numDigits, b.digits[0], quotient, base);
+            return new jxy132330_Jun_Yu_BigNumber_5[]{
+                    fromDigits(base, quotient, quotient.length), fromDigits(base, new int[]{remnant}, 1)};
+        }
+
+        return divideKnuth(a, b);
+    }
+
+    /**
+     * Long division, Knuth's Algorithm D (The Art of Computer Programming, vol. 2, 4.3.1).
+     * Both operands are normalized so that the top digit of divisor is at least base / 2,
+     * then every quotient digit is estimated from the top two digits of the remainder
+     * and the top digit of divisor, and corrected at most twice.
+     * The remainder is kept in one buffer and updated in place.
+     *
+     * @param a dividend, at least as long as b, the sign is ignored
+     * @param b divisor, at least 2 digits, the sign is ignored
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] divideKnuth(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                              jxy132330_Jun_Yu_BigNumber_5 b) {
+        int base = a.base;
+        int n = b.numDigits;
+        int m = a.numDigits - n;
+
+        // normalize, scale both by d so that the top digit of divisor is at least base / 2
+        int d = base / (b.digits[n - 1] + 1);
+        ScratchArena arena = ScratchArena.get();
+        int mark = arena.open();
+        try {
+            int[] u = arena.ints(a.numDigits + 1);
+            multiplyByIntMagnitude(a.digits, a.numDigits, d, u, base);
+            int[] v = arena.ints(n + 1);
+            multiplyByIntMagnitude(b.digits, n, d, v, base);
+            return divideKnuth(u, v, m, n, d, base);
+        } finally {
+            arena.close(mark);
+        }
+    }
+
+    /**
+     * The loop of divideKnuth on normalized digits
+     *
+     * @param u    normalized dividend of m + n + 1 digits, the remainder is left in it
+     * @param v    normalized divisor of n digits
+     * @param m    the number of digits of dividend minus n
+     * @param n    the number of digits of divisor
+     * @param d    normalizing factor
+     * @param base base of digits
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] divideKnuth(int[] u, int[] v, int m, int n, int d, int base) {
+
+        int[] quotient = new int[m + 1];
+        long vTop = v[n - 1];
+        long vNext = v[n - 2];
+
+        for (int j = m; j >= 0; j--) {
+            // estimate quotient digit from the top two digits
+            long numerator = (long) u[j + n] * base + u[j + n - 1];
+            long qHat = numerator / vTop;
+            long rHat = numerator - qHat * vTop;
+            while (qHat >= base || qHat * vNext > rHat * base + u[j + n - 2]) {
+                qHat--;
+                rHat += vTop;
+                if (rHat >= base) {
+                    break;
+                }
+            }
+
+            // multiply and subtract qHat * v from the remainder at position j
+            long carry = 0;
+            long borrow = 0;
+            for (int i = 0; i < n; i++) {
+                long product = qHat * v[i] + carry;
+                carry = product / base;
+                long temp = u[i + j] - (product - carry * base) - borrow;
+                if (temp < 0) {
+                    temp += base;
+                    borrow = 1;
+                } else {
+                    borrow = 0;
+                }
+                u[i + j] = (int) temp;
+            }
+            long top = u[j + n] - carry - borrow;
+
+            if (top < 0) {
+                // qHat was one too large, add divisor back
+                qHat--;
+                long addCarry = 0;
+                for (int i = 0; i < n; i++) {
+                    long temp = u[i + j] + v[i] + addCarry;
+                    if (temp >= base) {
+                        temp -= base;
+                        addCarry = 1;
+                    } else {
+                        addCarry = 0;
+                    }
+                    u[i + j] = (int) temp;
+                }
+                top += addCarry;
+            }
+            u[j + n] = (int) top;
+            quotient[j] = (int) qHat;
+        }
+
+        // unnormalize the remainder
+        int[] remainder = new int[n];
+        divideByIntMagnitude(u, n, d, remainder, base);
+
+        return new jxy132330_Jun_Yu_BigNumber_5[]{
+                fromDigits(base, quotient, quotient.length), fromDigits(base, remainder, remainder.length)};
+    }
+
+    /**
+     * Recursive division by Burnikel and Ziegler.
+     * The divisor is normalized and padded to n = j * 2 ^ k digits, the dividend is cut into blocks of n digits,
+     * and every two blocks are divided by divide2n1n, which recurses into halves,
+     * so that the cost of division follows the cost of multiplication.
+     * Reference: <a href="http://cr.yp.to/bib/1998/burnikel.ps">Fast Recursive Division</a>
+     *
+     * @param a dividend, the sign is ignored
+     * @param b divisor, not zero, the sign is ignored
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] divideBurnikelZiegler(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                        jxy132330_Jun_Yu_BigNumber_5 b) {
+        int base = a.base;
+        int s = b.numDigits;
+
+        // block structure of divisor, m = 2 ^ k blocks of j digits
+        int m = 1 << (32 - Integer.numberOfLeadingZeros(s / burnikelZieglerThreshold));
+        int j = (s + m - 1) / m;
+        int n = j * m;
+
+        // normalize, the top digit of divisor is at least base / 2 and divisor has exactly n digits
+        int d = base / (b.digits[s - 1] + 1);
+        int shift = n - s;
+        jxy132330_Jun_Yu_BigNumber_5 bShifted = multiplyPositive(b, fromInt(d, base)).shiftLeft(shift);
+        jxy132330_Jun_Yu_BigNumber_5 aShifted = multiplyPositive(a, fromInt(d, base)).shiftLeft(shift);
+
+        // the top block has less than n digits, so it is less than divisor
+        int t = Math.max(aShifted.numDigits / n + 1, 2);
+        int[] quotient = new int[(t - 1) * n];
+
+        jxy132330_Jun_Yu_BigNumber_5 z = aShifted.sliceDigits((t - 2) * n, t * n);
+        jxy132330_Jun_Yu_BigNumber_5[] qr = null;
+        for (int i = t - 2; i >= 0; i--) {
+            qr = divide2n1n(z, bShifted);
+            System.arraycopy(qr[0].digits, 0, quotient, i * n, qr[0].numDigits);
+            if (i > 0) {
+                z = qr[1].shiftLeft(n).add(aShifted.sliceDigits((i - 1) * n, i * n));
+            }
+        }
+
+        // unnormalize the remainder
+        jxy132330_Jun_Yu_BigNumber_5 remainder = new jxy132330_Jun_Yu_BigNumber_5(base);
+        qr[1].shiftRight(shift).divideByInt(d, remainder);
+
+        return new jxy132330_Jun_Yu_BigNumber_5[]{fromDigits(base, quotient, quotient.length), remainder};
+    }
+
+    /**
+     * Divide a number of at most 2n digits by a normalized number of n digits,
+     * the quotient must be less than base ^ n
+     *
+     * @param a non negative dividend, less than b * base ^ n
+     * @param b non negative normalized divisor of n digits
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] divide2n1n(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                             jxy132330_Jun_Yu_BigNumber_5 b) {
+        int n = b.numDigits;
+        if ((n & 1) != 0 || n < burnikelZieglerThreshold) {
+            return divideSchoolbook(a, b);
+        }
+
+        int half = n / 2;
+
+        // divide the upper three halves, then the remainder with the lowest half
+        jxy132330_Jun_Yu_BigNumber_5[] qr1 = divide3n2n(a.shiftRight(half), b);
+        jxy132330_Jun_Yu_BigNumber_5[] qr2 = divide3n2n(qr1[1].shiftLeft(half).add(a.lowerDigits(half)), b);
+
+        int[] quotient = new int[n];
+        System.arraycopy(qr2[0].digits, 0, quotient, 0, qr2[0].numDigits);
+        System.arraycopy(qr1[0].digits, 0, quotient, half, qr1[0].numDigits);
+        return new jxy132330_Jun_Yu_BigNumber_5[]{fromDigits(b.base, quotient, n), qr2[1]};
+    }
+
+    /**
+     * Divide a number of at most 3 half digits by a normalized number of 2 half digits,
+     * the quotient is estimated by dividing the top digits by the top half of divisor and corrected
+     *
+     * @param a non negative dividend, less than b * base ^ half
+     * @param b non negative normalized divisor of 2 half digits
+     * @return array of non negative quotient and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] divide3n2n(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                             jxy132330_Jun_Yu_BigNumber_5 b) {
+        int base = b.base;
+        int half = b.numDigits / 2;
+
+        jxy132330_Jun_Yu_BigNumber_5 a12 = a.shiftRight(half);
+        jxy132330_Jun_Yu_BigNumber_5 a1 = a.shiftRight(2 * half);
+        jxy132330_Jun_Yu_BigNumber_5 b1 = b.shiftRight(half);
+        jxy132330_Jun_Yu_BigNumber_5 b2 = b.lowerDigits(half);
+
+        jxy132330_Jun_Yu_BigNumber_5 quotient;
+        jxy132330_Jun_Yu_BigNumber_5 r1;
+        if (compareMagnitude(a1.digits, a1.numDigits, b1.digits, b1.numDigits) < 0) {
+            jxy132330_Jun_Yu_BigNumber_5[] qr = divide2n1n(a12, b1);
+            quotient = qr[0];
+            r1 = qr[1];
+        } else {
+            // quotient = base ^ half - 1, r1 = a12 - quotient * b1
+            int[] ones = new int[half];
+            Arrays.fill(ones, base - 1);
+            quotient = fromDigits(base, ones, half);
+            r1 = a12.subtract(b1.shiftLeft(half)).add(b1);
+        }
+
+        MutableBigNumber remainder = new MutableBigNumber(base, a.numDigits + 1);
+        remainder.addTo(a.lowerDigits(half)).addShifted(r1, half).subtractFrom(multiplyPositive(quotient, b2));
+
+        // at most two corrections because divisor is normalized
+        if (remainder.isNegative()) {
+            jxy132330_Jun_Yu_BigNumber_5 one = fromInt(1, base);
+            MutableBigNumber correctedQuotient = new MutableBigNumber(quotient);
+            while (remainder.isNegative()) {
+                remainder.addTo(b);
+                correctedQuotient.subtractFrom(one);
+            }
+            quotient = correctedQuotient.takeBigNumber();
+        }
+        return new jxy132330_Jun_Yu_BigNumber_5[]{quotient, remainder.takeBigNumber()};
+    }
+
+    /**
+     * Big number of a non negative integer in the specific base
+     *
+     * @param value non negative integer
+     * @param base  base of digits
+     * @return new big number
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 fromInt(long value, int base) {
+        int[] result = new int[carryDigits(value, base)];
+        int length = 0;
+        while (value > 0) {
+            long next = value / base;
+            result[length++] = (int) (value - next * base);
+            value = next;
+        }
+        return fromDigits(base, result, length);
+    }
+
+    /**
+     * Reciprocal of a big number by Newton iteration, that is floor(base ^ (2n) / d) where d has n digits.
+     * The reciprocal of the top half digits is computed recursively,
+     * one Newton step x + x * (base ^ (2n) - d * x) / base ^ (2n) doubles the precision,
+     * and the last digit is corrected exactly
+     * Reference: <a href="https://en.wikipedia.org/wiki/Division_algorithm#Newton%E2%80%93Raphson_division">Newton-Raphson division</a>
+     *
+     * @param d non negative divisor, not zero
+     * @return floor(base ^ (2n) / d)
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 newtonReciprocal(jxy132330_Jun_Yu_BigNumber_5 d) {
+        int base = d.base;
+        int n = d.numDigits;
+        jxy132330_Jun_Yu_BigNumber_5 power = fromInt(1, base).shiftLeft(2 * n);
+
+        if (n <= 2 * burnikelZieglerThreshold) {
+            return divideSchoolbook(power, d)[0];
+        }
+
+        // reciprocal of the top h digits, shifted, is correct to about h digits
+        int h = n / 2 + 2;
+        jxy132330_Jun_Yu_BigNumber_5 x = newtonReciprocal(d.shiftRight(n - h)).shiftLeft(n - h);
+
+        // one Newton step, the error e is small and may be negative
+        jxy132330_Jun_Yu_BigNumber_5 e = power.subtract(multiplyPositive(d, x));
+        x = x.add(x.multiply(e).shiftRight(2 * n));
+
+        // x is now off by a few units, correct it so that 0 <= base ^ (2n) - d * x < d
+        jxy132330_Jun_Yu_BigNumber_5 one = fromInt(1, base);
+        MutableBigNumber r = new MutableBigNumber(power).subtractFrom(multiplyPositive(d, x));
+        MutableBigNumber corrected = new MutableBigNumber(x);
+        while (r.isNegative()) {
+            r.addTo(d);
+            corrected.subtractFrom(one);
+        }
+        while (r.compareShifted(d.digits, d.numDigits, 0) >= 0) {
+            r.subtractFrom(d);
+            corrected.addTo(one);
+        }
+        return corrected.takeBigNumber();
+    }
+
+    /**
+     * A divisor with its reciprocal computed in advance,
+     * so that every division by it costs two multiplications.
+     * It pays off when a big divisor is used many times, as in base conversion and modular loops.
+     */
+    public static class PreparedDivisor {
+
+        // magnitude of divisor
+        private final jxy132330_Jun_Yu_BigNumber_5 divisor;
+        private final boolean negative;
+        // the number of digits of divisor
+        private final int n;
+        // floor(base ^ (2n) / |divisor|)
+        private final jxy132330_Jun_Yu_BigNumber_5 reciprocal;
+
+        public PreparedDivisor(jxy132330_Jun_Yu_BigNumber_5 divisor) {
+            if (divisor == null || divisor.isZero()) {
+                throw new IllegalArgumentException("divisor is null or zero");
+            }
+
+            this.divisor = divisor.lowerDigits(divisor.numDigits);
+            this.negative = divisor.isNegative();
+            this.n = divisor.numDigits;
+            this.reciprocal = newtonReciprocal(this.divisor);
+        }
+
+        public jxy132330_Jun_Yu_BigNumber_5 getDivisor() {
+            jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(divisor);
+            result.negative = negative;
+            return result;
+        }
+
+        /**
+         * Dividend divided by the prepared divisor, the same as dividend.divide(divisor)
+         *
+         * @param dividend big number
+         * @return quotient truncated toward zero
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 divide(jxy132330_Jun_Yu_BigNumber_5 dividend) {
+            return divideAndRemainder(dividend)[0];
+        }
+
+        /**
+         * Remainder of dividend divided by the prepared divisor, it has the same sign as dividend
+         *
+         * @param dividend big number
+         * @return remainder
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 remainder(jxy132330_Jun_Yu_BigNumber_5 dividend) {
+            return divideAndRemainder(dividend)[1];
+        }
+
+        /**
+         * The same as dividend.divideAndRemainder(divisor).
+         * A dividend of another base is converted to the base of divisor, so that the reciprocal is reused
+         *
+         * @param dividend big number
+         * @return array of quotient and remainder in the base of divisor
+         */
+        public jxy132330_Jun_Yu_BigNumber_5[] divideAndRemainder(jxy132330_Jun_Yu_BigNumber_5 dividend) {
+            if (dividend.getBase() != divisor.getBase()) {
+                dividend = dividend.toBase(divisor.getBase());
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5[] result = dividePositive(dividend);
+            if (dividend.isNegative() ^ negative) {
+                result[0].negate();
+            }
+            if (dividend.isNegative()) {
+                result[1].negate();
+            }
+            return result;
+        }
+
+        /**
+         * Division of magnitudes, the dividend is cut into blocks of n digits from the top,
+         * every step divides the remainder so far followed by one block, which is less than base ^ (2n)
+         *
+         * @param a dividend, the sign is ignored
+         * @return array of non negative quotient and remainder
+         */
+        private jxy132330_Jun_Yu_BigNumber_5[] dividePositive(jxy132330_Jun_Yu_BigNumber_5 a) {
+            int base = divisor.base;
+            if (a.numDigits <= 2 * n) {
+                return divideBlock(a.lowerDigits(a.numDigits));
+            }
+
+            int t = (a.numDigits + n - 1) / n;
+            int[] quotient = new int[t * n];
+            jxy132330_Jun_Yu_BigNumber_5 r = new jxy132330_Jun_Yu_BigNumber_5(base);
+            for (int i = t - 1; i >= 0; i--) {
+                jxy132330_Jun_Yu_BigNumber_5 z = r.shiftLeft(n).add(a.sliceDigits(i * n, (i + 1) * n));
+                jxy132330_Jun_Yu_BigNumber_5[] qr = divideBlock(z);
+                System.arraycopy(qr[0].digits, 0, quotient, i * n, qr[0].numDigits);
+                r = qr[1];
+            }
+            return new jxy132330_Jun_Yu_BigNumber_5[]{fromDigits(base, quotient, quotient.length), r};
+        }
+
+        /**
+         * Barrett's step, the quotient estimated by the reciprocal is at most 2 less than the exact one
+         *
+         * @param x non negative, less than base ^ (2n)
+         * @return array of non negative quotient and remainder
+         */
+        private jxy132330_Jun_Yu_BigNumber_5[] divideBlock(jxy132330_Jun_Yu_BigNumber_5 x) {
+            jxy132330_Jun_Yu_BigNumber_5 q = multiplyPositive(x.shiftRight(n - 1), reciprocal).shiftRight(n + 1);
+            MutableBigNumber r = new MutableBigNumber(x).subtractFrom(multiplyPositive(q, divisor));
+
+            if (r.compareShifted(divisor.digits, divisor.numDigits, 0) >= 0) {
+                jxy132330_Jun_Yu_BigNumber_5 one = fromInt(1, divisor.base);
+                MutableBigNumber corrected = new MutableBigNumber(q);
+                do {
+                    r.subtractFrom(divisor);
+                    corrected.addTo(one);
+                } while (r.compareShifted(divisor.digits, divisor.numDigits, 0) >= 0);
+                q = corrected.takeBigNumber();
+            }
+            return new jxy132330_Jun_Yu_BigNumber_5[]{q, r.takeBigNumber()};
+        }
+    }
+
+    /**
+     * A big number changed in place, backed by a growable digit array.
+     * Loops that accumulate many terms use it instead of creating a new big number at every step.
+     * It is not thread safe
+     */
+    public static class MutableBigNumber {
+
+        private final int base;
+        // digits, least significant first, the digits above numDigits are always zero
+        private int[] digits;
+        private int numDigits;
+        private boolean negative;
+
+        public MutableBigNumber(int base) {
+            this(base, 0);
+        }
+
+        /**
+         * Zero with room for some digits reserved
+         *
+         * @param base     base of digits
+         * @param capacity the number of digits reserved
+         */
+        public MutableBigNumber(int base, int capacity) {
+            this.base = base;
+            this.digits = capacity == 0 ? EMPTY_DIGITS : new int[capacity];
+        }
+
+        public MutableBigNumber(jxy132330_Jun_Yu_BigNumber_5 value) {
+            this(value.base, value.numDigits + 1);
+            setValue(value);
+        }
+
+        public int getBase() {
+            return base;
+        }
+
+        public int getNumDigit() {
+            return numDigits;
+        }
+
+        public boolean isZero() {
+            return numDigits == 0;
+        }
+
+        public boolean isNegative() {
+            return negative;
+        }
+
+        /**
+         * Is this number odd?
+         *
+         * @return true if this is odd
+         */
+        public boolean isOdd() {
+            if ((base & 1) == 0) {
+                return numDigits > 0 && (digits[0] & 1) == 1;
+            }
+
+            int parity = 0;
+            for (int i = 0; i < numDigits; i++) {
+                parity ^= digits[i] & 1;
+            }
+            return parity == 1;
+        }
+
+        /**
+         * Replace the value, the digit array is reused if it is long enough
+         *
+         * @param value big number, converted to the base of this if it differs
+         */
+        public void setValue(jxy132330_Jun_Yu_BigNumber_5 value) {
+            value = inBase(value);
+            ensureCapacity(value.numDigits);
+            System.arraycopy(value.digits, 0, digits, 0, value.numDigits);
+            if (value.numDigits < numDigits) {
+                Arrays.fill(digits, value.numDigits, numDigits, 0);
+            }
+            numDigits = value.numDigits;
+            negative = value.negative;
+        }
+
+        /**
+         * Immutable copy of the current value
+         *
+         * @return new big number
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 toBigNumber() {
+            jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, Arrays.copyOf(digits, numDigits), numDigits);
+            result.negative = negative;
+            return result;
+        }
+
+        /**
+         * this += other
+         *
+         * @param other big number, converted to the base of this if it differs
+         * @return this
+         */
+        public MutableBigNumber addTo(jxy132330_Jun_Yu_BigNumber_5 other) {
+            other = inBase(other);
+            addSigned(other.digits, other.numDigits, other.negative, 0);
+            return this;
+        }
+
+        public MutableBigNumber addTo(MutableBigNumber other) {
+            if (other.base != base) {
+                return addTo(other.toBigNumber());
+            }
+            addSigned(other.digits, other.numDigits, other.negative, 0);
+            return this;
+        }
+
+        /**
+         * this -= other
+         *
+         * @param other big number, converted to the base of this if it differs
+         * @return this
+         */
+        public MutableBigNumber subtractFrom(jxy132330_Jun_Yu_BigNumber_5 other) {
+            other = inBase(other);
+            addSigned(other.digits, other.numDigits, !other.negative, 0);
+            return this;
+        }
+
+        public MutableBigNumber subtractFrom(MutableBigNumber other) {
+            if (other.base != base) {
+                return subtractFrom(other.toBigNumber());
+            }
+            addSigned(other.digits, other.numDigits, !other.negative, 0);
+            return this;
+        }
+
+        /**
+         * this += other * base ^ limbs, without building the shifted number
+         *
+         * @param other big number, converted to the base of this if it differs
+         * @param limbs the number of digits other is shifted by
+         * @return this
+         */
+        public MutableBigNumber addShifted(jxy132330_Jun_Yu_BigNumber_5 other, int limbs) {
+            other = inBase(other);
+            addSigned(other.digits, other.numDigits, other.negative, limbs);
+            return this;
+        }
+
+        /**
+         * this -= other * base ^ limbs, without building the shifted number
+         *
+         * @param other big number, converted to the base of this if it differs
+         * @param limbs the number of digits other is shifted by
+         * @return this
+         */
+        public MutableBigNumber subtractShifted(jxy132330_Jun_Yu_BigNumber_5 other, int limbs) {
+            other = inBase(other);
+            addSigned(other.digits, other.numDigits, !other.negative, limbs);
+            return this;
+        }
+
+        /**
+         * this *= factor
+         *
+         * @param factor integer
+         * @return this
+         */
+        public MutableBigNumber multiplyBy(int factor) {
+            if (factor == 0) {
+                Arrays.fill(digits, 0, numDigits, 0);
+                numDigits = 0;
+                negative = false;
+                return this;
+            }
+
+            long absFactor = Math.abs((long) factor);
+            ensureCapacity(numDigits + carryDigits(absFactor, base));
+            numDigits = multiplyByIntMagnitude(digits, numDigits, absFactor, digits, base);
+            negative = (negative ^ factor < 0) && numDigits > 0;
+            return this;
+        }
+
+        /**
+         * this /= divisor, the quotient is truncated toward zero
+         *
+         * @param divisor integer
+         * @return remnant of the magnitude, the same as divideByInt
+         */
+        public int divideByIntInPlace(int divisor) {
+            if (divisor == 0) {
+                throw new IllegalArgumentException("Argument 'divisor' is 0");
+            }
+
+            int remnant = divideByIntMagnitude(digits, numDigits, Math.abs((long) divisor), digits, base);
+            negative ^= divisor < 0;
+            trimTopZeros();
+            return remnant;
+        }
+
+        /**
+         * Hand the digit array over to a big number without copy, this becomes zero
+         *
+         * @return big number of the current value
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 takeBigNumber() {
+            jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, digits, numDigits);
+            result.negative = negative && !result.isZero();
+            digits = EMPTY_DIGITS;
+            numDigits = 0;
+            negative = false;
+            return result;
+        }
+
+        /**
+         * Operand in the base of this accumulator, converted if it has another base
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 inBase(jxy132330_Jun_Yu_BigNumber_5 other) {
+            return other.base == base ? other : other.toBase(base);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > digits.length) {
+                digits = Arrays.copyOf(digits, Math.max(capacity, digits.length + (digits.length >> 1) + 1));
+            }
+        }
+
+        private void trimTopZeros() {
+            while (numDigits > 0 && digits[numDigits - 1] == 0) {
+                numDigits--;
+            }
+
+            if (numDigits == 0) {
+                negative = false;
+            }
+        }
+
+        /**
+         * Compare the magnitude of this with b * base ^ shift
+         *
+         * @param b       digits, top digit not zero
+         * @param bLength the number of digits
+         * @param shift   the number of digits b is shifted by
+         * @return -1, 0 or 1
+         */
+        private int compareShifted(int[] b, int bLength, int shift) {
+            int length = bLength + shift;
+            if (numDigits != length) {
+                return numDigits > length ? 1 : -1;
+            }
+
+            for (int i = numDigits - 1; i >= shift; i--) {
+                if (digits[i] != b[i - shift]) {
+                    return digits[i] > b[i - shift] ? 1 : -1;
+                }
+            }
+            for (int i = shift - 1; i >= 0; i--) {
+                if (digits[i] != 0) {
+                    return 1;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * this += (-1) ^ bNegative * b * base ^ shift, the digits of this are updated in place
+         *
+         * @param b         digits, top digit not zero
+         * @param bLength   the number of digits
+         * @param bNegative sign of b
+         * @param shift     the number of digits b is shifted by
+         */
+        private void addSigned(int[] b, int bLength, boolean bNegative, int shift) {
+            if (bLength == 0) {
+                return;
+            }
+
+            if (numDigits == 0 || negative == bNegative) {
+                // same sign, add the magnitudes
+                ensureCapacity(Math.max(numDigits, bLength + shift) + 1);
+                int carry = 0;
+                int i = 0;
+                for (; i < bLength; i++) {
+                    int sum = digits[shift + i] + b[i] + carry;
+                    carry = sum >= base ? 1 : 0;
+                    digits[shift + i] = sum - carry * base;
+                }
+                for (i += shift; carry > 0; i++) {
+                    int sum = digits[i] + 1;
+                    carry = sum == base ? 1 : 0;
+                    digits[i] = sum - carry * base;
+                }
+                numDigits = Math.max(numDigits, i);
+                negative = bNegative;
+                return;
+            }
+
+            if (compareShifted(b, bLength, shift) >= 0) {
+                // |this| >= |b|, the sign is kept
+                int borrow = 0;
+                int i = 0;
+                for (; i < bLength; i++) {
+                    int diff = digits[shift + i] - b[i] - borrow;
+                    borrow = diff < 0 ? 1 : 0;
+                    digits[shift + i] = diff + borrow * base;
+                }
+                for (i += shift; borrow > 0; i++) {
+                    int diff = digits[i] - 1;
+                    borrow = diff < 0 ? 1 : 0;
+                    digits[i] = diff + borrow * base;
+                }
+            } else {
+                // |this| < |b|, the result is |b| - |this| with the sign of b
+                int length = bLength + shift;
+                ensureCapacity(length);
+                int borrow = 0;
+                for (int i = 0; i < length; i++) {
+                    int diff = (i < shift ? 0 : b[i - shift]) - digits[i] - borrow;
+                    borrow = diff < 0 ? 1 : 0;
+                    digits[i] = diff + borrow * base;
+                }
+                numDigits = length;
+                negative = bNegative;
+            }
+            trimTopZeros();
+        }
+    }
+
+    /**
+     * Big number whose digits live outside the heap, 2 bytes per digit little endian,
+     * in direct buffers or in buffers mapped from a deleted temp file.
+     * The digits are split into chunks of 2 ^ 29, so a number may be larger than one buffer.
+     * Arithmetic streams over the digits in blocks: every block is copied to a small heap array
+     * and handled by the heap kernels, so the heap used does not grow with the number.
+     * Direct buffers are bounded by -XX:MaxDirectMemorySize, which is -Xmx by default;
+     * mapped buffers are paged by the operating system and bounded by the disk only.
+     * Closing a number frees its buffers at once instead of whenever the collector finds it; power and
+     * multiply close their intermediates.
+     * The heap power and maximumPowerIn15Secs continue here in mapped buffers once a number reaches
+     * offHeapThreshold digits; otherwise a caller copies a number out by of() and back by toBigNumber()
+     */
+    public static class OffHeapBigNumber implements AutoCloseable {
+
+        private static final int CHUNK_SHIFT = 29;
+        private static final int CHUNK_DIGITS = 1 << CHUNK_SHIFT;
+        // digits of the blocks of add and subtract
+        private static final int STREAM_BLOCK_DIGITS = 1 << 16;
+        // digits of the blocks multiplied on the heap
+        private static final int MULTIPLY_BLOCK_DIGITS = 1 << 17;
+
+        private final int base;
+        private final boolean mapped;
+        // Unsafe.invokeCleaner bound to the instance, null if it is not accessible
+        private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+        private final ByteBuffer[] chunks;
+        // the chunks as little endian shorts, for the bulk copies of blocks
+        private final ShortBuffer[] digitViews;
+        private final long capacity;
+        private long numDigits;
+        private boolean negative;
+        private boolean closed;
+
+        /**
+         * Zero with room for capacity digits
+         *
+         * @param base     base of digits
+         * @param capacity the number of digits it may hold
+         * @param mapped   whether to map a temp file instead of allocating direct buffers
+         * @throws IOException if the temp file can not be created or mapped
+         */
+        public OffHeapBigNumber(int base, long capacity, boolean mapped) throws IOException {
+            if (base > optimalBase || base <= 1) {
+                base = optimalBase;
+            }
+            this.base = base;
+            this.mapped = mapped;
+            this.capacity = Math.max(1, capacity);
+
+            int count = (int) ((this.capacity + CHUNK_DIGITS - 1) >>> CHUNK_SHIFT);
+            this.chunks = new ByteBuffer[count];
+            this.digitViews = new ShortBuffer[count];
+            if (!mapped) {
+                for (int i = 0; i < count; i++) {
+                    chunks[i] = ByteBuffer.allocateDirect(2 * chunkLength(i)).order(ByteOrder.LITTLE_ENDIAN);
+                    digitViews[i] = chunks[i].asShortBuffer();
+                }
+                return;
+            }
+
+            // the mappings stay valid after the file is closed and deleted
+            File file = File.createTempFile("bignumber", ".digits");
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+            try {
+                FileChannel channel = randomAccessFile.getChannel();
+                for (int i = 0; i < count; i++) {
+                    chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, 2L * CHUNK_DIGITS * i, 2L * chunkLength(i))
+                            .order(ByteOrder.LITTLE_ENDIAN);
+                    digitViews[i] = chunks[i].asShortBuffer();
+                }
+            } finally {
+                randomAccessFile.close();
+                if (!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+
+        /**
+         * Copy of a big number outside the heap
+         *
+         * @param value  big number
+         * @param mapped whether to map a temp file instead of allocating direct buffers
+         * @return new off heap big number
+         * @throws IOException if the temp file can not be created or mapped
+         */
+        public static OffHeapBigNumber of(jxy132330_Jun_Yu_BigNumber_5 value, boolean mapped) throws IOException {
+            OffHeapBigNumber result = new OffHeapBigNumber(value.base, value.numDigits, mapped);
+            for (int from = 0; from < value.numDigits; from += STREAM_BLOCK_DIGITS) {
+                result.write(from, value.digits, from, Math.min(STREAM_BLOCK_DIGITS, value.numDigits - from));
+            }
+            result.numDigits = value.numDigits;
+            result.negative = value.negative;
+            return result;
+        }
+
+        private static MethodHandle findCleaner() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                return MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                        MethodType.methodType(void.class, ByteBuffer.class)).bindTo(field.get(null));
+            } catch (ReflectiveOperationException e) {
+                return null;
+            } catch (RuntimeException e) {
+                // inaccessible module or security manager
+                return null;
+            }
+        }
+
+        /**
+         * Free the direct buffers or unmap the file now, the number must not be used afterwards.
+         * Without the cleaner the buffers are only dropped and freed by the collector.
+         * Closing again has no effect
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            numDigits = 0;
+            for (int i = 0; i < chunks.length; i++) {
+                ByteBuffer chunk = chunks[i];
+                chunks[i] = null;
+                digitViews[i] = null;
+                if (INVOKE_CLEANER != null) {
+                    try {
+                        INVOKE_CLEANER.invokeExact(chunk);
+                    } catch (RuntimeException e) {
+                        // left to the collector
+                    } catch (Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        // invokeCleaner throws no checked exception
+                    }
+                }
+            }
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Copy back to the heap
+         *
+         * @return new big number
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 toBigNumber() {
+            checkOpen();
+            if (numDigits > Integer.MAX_VALUE - 8) {
+                throw new ArithmeticException("Too many digits for the heap");
+            }
+
+            int length = (int) numDigits;
+            int[] digits = new int[length];
+            read(0, digits, length);
+            jxy132330_Jun_Yu_BigNumber_5 result = fromDigits(base, digits, length);
+            result.negative = negative && !result.isZero();
+            return result;
+        }
+
+        public int getBase() {
+            return base;
+        }
+
+        public long getNumDigit() {
+            return numDigits;
+        }
+
+        public boolean isNegative() {
+            return negative;
+        }
+
+        public boolean isZero() {
+            return numDigits == 0;
+        }
+
+        public boolean isMapped() {
+            return mapped;
+        }
+
+        public OffHeapBigNumber add(OffHeapBigNumber other) throws IOException {
+            return addSigned(other, other.negative);
+        }
+
+        public OffHeapBigNumber subtract(OffHeapBigNumber other) throws IOException {
+            return addSigned(other, !other.negative);
+        }
+
+        /**
+         * Product by Karatsuba's method over the digit ranges, down to blocks of MULTIPLY_BLOCK_DIGITS
+         * multiplied on the heap and accumulated into the result in place
+         *
+         * @param other off heap big number
+         * @return new off heap big number, mapped if this is mapped
+         * @throws IOException if the result can not be mapped
+         */
+        public OffHeapBigNumber multiply(OffHeapBigNumber other) throws IOException {
+            checkBase(other);
+            OffHeapBigNumber result = new OffHeapBigNumber(base, numDigits + other.numDigits, mapped);
+            if (this.isZero() || other.isZero()) {
+                return result;
+            }
+
+            // accumulate over the whole capacity, trimmed at last
+            result.numDigits = result.capacity;
+            result.multiplyAccumulate(0, this, 0, numDigits, other, 0, other.numDigits);
+            result.trimTopZeros();
+            result.negative = (negative != other.negative) && !result.isZero();
+            return result;
+        }
+
+        /**
+         * Square, the same recursion as multiply with the blocks squared on the heap
+         *
+         * @return new off heap big number, mapped if this is mapped
+         * @throws IOException if the result can not be mapped
+         */
+        public OffHeapBigNumber square() throws IOException {
+            checkOpen();
+            OffHeapBigNumber result = new OffHeapBigNumber(base, 2 * numDigits, mapped);
+            result.numDigits = result.capacity;
+            result.multiplyAccumulate(0, this, 0, numDigits, this, 0, numDigits);
+            result.trimTopZeros();
+            return result;
+        }
+
+        /**
+         * Power by repeated squaring from the most significant bit of exponent,
+         * every intermediate is closed as soon as the next one is computed
+         *
+         * @param exponent non negative
+         * @return new off heap big number, mapped if this is mapped
+         * @throws IOException if a result can not be mapped
+         */
+        public OffHeapBigNumber power(int exponent) throws IOException {
+            if (exponent < 0) {
+                throw new ArithmeticException("Negative exponent");
+            }
+            checkOpen();
+
+            OffHeapBigNumber result = of(fromInt(1, base), mapped);
+            boolean done = false;
+            try {
+                for (int bit = 31 - Integer.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+                    OffHeapBigNumber previous = result;
+                    result = result.square();
+                    previous.close();
+                    if (((exponent >>> bit) & 1) != 0) {
+                        previous = result;
+                        result = result.multiply(this);
+                        previous.close();
+                    }
+                }
+                done = true;
+                return result;
+            } finally {
+                if (!done) {
+                    result.close();
+                }
+            }
+        }
+
+        /**
+         * Write the fixed binary form of jxy132330_Jun_Yu_BigNumber_5.writeTo, straight from the buffers
+         *
+         * @param channel output
+         * @throws IOException if the channel fails
+         */
+        public void writeTo(WritableByteChannel channel) throws IOException {
+            checkOpen();
+            if (numDigits > Integer.MAX_VALUE) {
+                throw new ArithmeticException("Too many digits for the binary form");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.put((byte) (negative ? BINARY_NEGATIVE : 0));
+            header.putShort((short) base);
+            header.putInt((int) numDigits);
+            header.flip();
+            writeFully(channel, header);
+            for (long from = 0; from < numDigits; from += CHUNK_DIGITS) {
+                ByteBuffer chunk = chunks[(int) (from >>> CHUNK_SHIFT)].duplicate();
+                chunk.position(0).limit((int) (2 * Math.min(CHUNK_DIGITS, numDigits - from)));
+                writeFully(channel, chunk);
+            }
+        }
+
+        private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private int chunkLength(int chunk) {
+            return (int) Math.min(CHUNK_DIGITS, capacity - ((long) chunk << CHUNK_SHIFT));
+        }
+
+        private void checkBase(OffHeapBigNumber other) {
+            checkOpen();
+            other.checkOpen();
+            if (this.base != other.base) {
+                throw new NumberFormatException("Base not the same");
+            }
+        }
+
+        private void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException("Off heap big number is closed");
+            }
+        }
+
+        /**
+         * Read digits [from, from + length) into block, zeros above numDigits.
+         * The digits are copied in bulk from the views through a short array of BINARY_CHUNK_DIGITS
+         */
+        private void read(long from, int[] block, int length) {
+            int stored = (int) Math.max(0, Math.min(length, numDigits - from));
+            short[] buffer = new short[Math.min(stored, BINARY_CHUNK_DIGITS)];
+            for (int i = 0; i < stored; ) {
+                long index = from + i;
+                int offset = (int) (index & (CHUNK_DIGITS - 1));
+                int count = Math.min(Math.min(stored - i, CHUNK_DIGITS - offset), buffer.length);
+                digitViews[(int) (index >>> CHUNK_SHIFT)].get(offset, buffer, 0, count);
+                for (int k = 0; k < count; k++) {
+                    block[i + k] = buffer[k];
+                }
+                i += count;
+            }
+            Arrays.fill(block, stored, length, 0);
+        }
+
+        /**
+         * Write block[offset, offset + length) to digits [from, from + length), in bulk like read
+         */
+        private void write(long from, int[] block, int offset, int length) {
+            short[] buffer = new short[Math.min(length, BINARY_CHUNK_DIGITS)];
+            for (int i = 0; i < length; ) {
+                long index = from + i;
+                int position = (int) (index & (CHUNK_DIGITS - 1));
+                int count = Math.min(Math.min(length - i, CHUNK_DIGITS - position), buffer.length);
+                for (int k = 0; k < count; k++) {
+                    buffer[k] = (short) block[offset + i + k];
+                }
+                digitViews[(int) (index >>> CHUNK_SHIFT)].put(position, buffer, 0, count);
+                i += count;
+            }
+        }
+
+        /**
+         * Digits [from, from + length) as a heap big number
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 block(long from, int length) {
+            int[] digits = new int[length];
+            read(from, digits, length);
+            return fromDigits(base, digits, length);
+        }
+
+        /**
+         * this += |a[aFrom, aFrom + aLength)| * |b[bFrom, bFrom + bLength)| * base ^ offset.
+         * A range no longer than MULTIPLY_BLOCK_DIGITS is multiplied on the heap by the blocks of the other,
+         * a range at least twice the other is cut into pieces of the length of the other,
+         * otherwise Karatsuba's step: with a = a1 * B + a0 and b = b1 * B + b0,
+         * a * b = a0 * b0 * (B + 1) + a1 * b1 * (B ^ 2 + B) - (a1 - a0) * (b1 - b0) * B.
+         * The three products are temporary numbers closed right after they are accumulated,
+         * so that the heap products grow as n ^ 1.585 instead of n ^ 2 and the memory stays linear
+         */
+        private void multiplyAccumulate(long offset, OffHeapBigNumber a, long aFrom, long aLength,
+                                        OffHeapBigNumber b, long bFrom, long bLength) throws IOException {
+            if (aLength < bLength) {
+                multiplyAccumulate(offset, b, bFrom, bLength, a, aFrom, aLength);
+                return;
+            }
+            if (bLength == 0) {
+                return;
+            }
+
+            boolean square = a == b && aFrom == bFrom && aLength == bLength;
+            if (bLength <= MULTIPLY_BLOCK_DIGITS) {
+                jxy132330_Jun_Yu_BigNumber_5 right = b.block(bFrom, (int) bLength);
+                for (long i = 0; i < aLength; i += MULTIPLY_BLOCK_DIGITS) {
+                    int length = (int) Math.min(MULTIPLY_BLOCK_DIGITS, aLength - i);
+                    accumulate(offset + i, square ? squarePositive(right)
+                            : multiplyPositive(a.block(aFrom + i, length), right));
+                }
+                return;
+            }
+            if (aLength >= 2 * bLength) {
+                for (long i = 0; i < aLength; i += bLength) {
+                    multiplyAccumulate(offset + i, a, aFrom + i, Math.min(bLength, aLength - i), b, bFrom, bLength);
+                }
+                return;
+            }
+
+            // halves on block boundaries, so that the heap products below are of whole blocks
+            long half = ((aLength + 1) / 2 + MULTIPLY_BLOCK_DIGITS - 1) / MULTIPLY_BLOCK_DIGITS * MULTIPLY_BLOCK_DIGITS;
+            if (half >= bLength) {
+                multiplyAccumulate(offset, a, aFrom, half, b, bFrom, bLength);
+                multiplyAccumulate(offset + half, a, aFrom + half, aLength - half, b, bFrom, bLength);
+                return;
+            }
+            OffHeapBigNumber low = temporaryProduct(a, aFrom, half, b, bFrom, half);
+            try {
+                accumulate(offset, low, false);
+                accumulate(offset + half, low, false);
+            } finally {
+                low.close();
+            }
+
+            OffHeapBigNumber high = temporaryProduct(a, aFrom + half, aLength - half, b, bFrom + half, bLength - half);
+            try {
+                accumulate(offset + 2 * half, high, false);
+                accumulate(offset + half, high, false);
+            } finally {
+                high.close();
+            }
+
+            // the positive terms are in already, so the subtraction never goes below zero
+            OffHeapBigNumber aDifference = a.difference(aFrom + half, aLength - half, aFrom, half);
+            OffHeapBigNumber bDifference = square ? aDifference : b.difference(bFrom + half, bLength - half, bFrom, half);
+            try {
+                OffHeapBigNumber middle = temporaryProduct(aDifference, 0, aDifference.numDigits,
+                        bDifference, 0, bDifference.numDigits);
+                try {
+                    accumulate(offset + half, middle, aDifference.negative == bDifference.negative);
+                } finally {
+                    middle.close();
+                }
+            } finally {
+                aDifference.close();
+                bDifference.close();
+            }
+        }
+
+        /**
+         * |a[aFrom, aFrom + aLength)| * |b[bFrom, bFrom + bLength)| in a new number, closed if it fails
+         */
+        private OffHeapBigNumber temporaryProduct(OffHeapBigNumber a, long aFrom, long aLength,
+                                                  OffHeapBigNumber b, long bFrom, long bLength) throws IOException {
+            OffHeapBigNumber result = new OffHeapBigNumber(base, aLength + bLength, mapped);
+            result.numDigits = result.capacity;
+            boolean done = false;
+            try {
+                result.multiplyAccumulate(0, a, aFrom, aLength, b, bFrom, bLength);
+                result.trimTopZeros();
+                done = true;
+                return result;
+            } finally {
+                if (!done) {
+                    result.close();
+                }
+            }
+        }
+
+        /**
+         * |high - low| of two digit ranges in a new number, negative if high < low
+         */
+        private OffHeapBigNumber difference(long highFrom, long highLength, long lowFrom, long lowLength)
+                throws IOException {
+            long length = Math.max(highLength, lowLength);
+            int comparison = 0;
+            for (long i = length - 1; i >= 0 && comparison == 0; i--) {
+                comparison = (i < highLength ? read(highFrom + i) : 0) - (i < lowLength ? read(lowFrom + i) : 0);
+            }
+
+            long largerFrom = comparison >= 0 ? highFrom : lowFrom;
+            long largerLength = comparison >= 0 ? highLength : lowLength;
+            long smallerFrom = comparison >= 0 ? lowFrom : highFrom;
+            long smallerLength = comparison >= 0 ? lowLength : highLength;
+            OffHeapBigNumber result = new OffHeapBigNumber(base, length, mapped);
+            int[] x = new int[STREAM_BLOCK_DIGITS];
+            int[] y = new int[STREAM_BLOCK_DIGITS];
+            int borrow = 0;
+            for (long from = 0; from < length; from += STREAM_BLOCK_DIGITS) {
+                int blockLength = (int) Math.min(STREAM_BLOCK_DIGITS, length - from);
+                readRange(largerFrom, largerLength, from, x, blockLength);
+                readRange(smallerFrom, smallerLength, from, y, blockLength);
+                for (int i = 0; i < blockLength; i++) {
+                    int value = x[i] - y[i] - borrow;
+                    borrow = value < 0 ? 1 : 0;
+                    x[i] = value + borrow * base;
+                }
+                result.write(from, x, 0, blockLength);
+            }
+            result.numDigits = length;
+            result.negative = comparison < 0;
+            result.trimTopZeros();
+            return result;
+        }
+
+        /**
+         * Digits [from, from + length) of the range [rangeFrom, rangeFrom + rangeLength) into block,
+         * zeros above the range
+         */
+        private void readRange(long rangeFrom, long rangeLength, long from, int[] block, int length) {
+            int available = (int) Math.max(0, Math.min(length, rangeLength - from));
+            read(rangeFrom + from, block, available);
+            Arrays.fill(block, available, length, 0);
+        }
+
+        /**
+         * Add a heap magnitude to the digits starting at offset, with the carry run up as far as it goes
+         */
+        private void accumulate(long offset, jxy132330_Jun_Yu_BigNumber_5 value) {
+            int[] block = new int[STREAM_BLOCK_DIGITS];
+            int carry = 0;
+            long from = offset;
+            int start = 0;
+            while ((start < value.numDigits || carry != 0) && from < numDigits) {
+                int length = (int) Math.min(STREAM_BLOCK_DIGITS, numDigits - from);
+                read(from, block, length);
+                int i = 0;
+                for (; i < length && (start + i < value.numDigits || carry != 0); i++) {
+                    int sum = block[i] + carry + (start + i < value.numDigits ? value.digits[start + i] : 0);
+                    carry = sum >= base ? 1 : 0;
+                    block[i] = sum - carry * base;
+                }
+                write(from, block, 0, i);
+                from += i;
+                start += i;
+            }
+        }
+
+        /**
+         * Add or subtract the magnitude of an off heap number to the digits starting at offset,
+         * with the carry or borrow run up as far as it goes
+         */
+        private void accumulate(long offset, OffHeapBigNumber value, boolean subtract) {
+            int[] block = new int[STREAM_BLOCK_DIGITS];
+            int[] addend = new int[STREAM_BLOCK_DIGITS];
+            int carry = 0;
+            long from = 0;
+            while ((from < value.numDigits || carry != 0) && offset + from < numDigits) {
+                int length = (int) Math.min(STREAM_BLOCK_DIGITS, numDigits - offset - from);
+                read(offset + from, block, length);
+                value.read(from, addend, length);
+                int i = 0;
+                for (; i < length && (from + i < value.numDigits || carry != 0); i++) {
+                    int sum = subtract ? block[i] - addend[i] - carry : block[i] + addend[i] + carry;
+                    if (subtract) {
+                        carry = sum < 0 ? 1 : 0;
+                        block[i] = sum + carry * base;
+                    } else {
+                        carry = sum >= base ? 1 : 0;
+                        block[i] = sum - carry * base;
+                    }
+                }
+                write(offset + from, block, 0, i);
+                from += i;
+            }
+        }
+
+        private void trimTopZeros() {
+            while (numDigits > 0 && read(numDigits - 1) == 0) {
+                numDigits--;
+            }
+            if (numDigits == 0) {
+                negative = false;
+            }
+        }
+
+        private int read(long index) {
+            return chunks[(int) (index >>> CHUNK_SHIFT)].getShort((int) (index & (CHUNK_DIGITS - 1)) << 1);
+        }
+
+        /**
+         * Compare magnitudes streaming from the most significant digit
+         */
+        private int compareMagnitude(OffHeapBigNumber other) {
+            if (numDigits != other.numDigits) {
+                return numDigits > other.numDigits ? 1 : -1;
+            }
+            for (long i = numDigits - 1; i >= 0; i--) {
+                int difference = read(i) - other.read(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * this + (-1) ^ bNegative * |b|, streaming over blocks
+         */
+        private OffHeapBigNumber addSigned(OffHeapBigNumber b, boolean bNegative) throws IOException {
+            checkBase(b);
+            OffHeapBigNumber result = new OffHeapBigNumber(base, Math.max(numDigits, b.numDigits) + 1, mapped);
+            OffHeapBigNumber larger = this;
+            OffHeapBigNumber smaller = b;
+            boolean subtract = negative != bNegative;
+            result.negative = negative;
+            if (subtract && compareMagnitude(b) < 0) {
+                larger = b;
+                smaller = this;
+                result.negative = bNegative;
+            }
+
+            int[] x = new int[STREAM_BLOCK_DIGITS];
+            int[] y = new int[STREAM_BLOCK_DIGITS];
+            int carry = 0;
+            long length = Math.max(larger.numDigits, smaller.numDigits);
+            for (long from = 0; from < length; from += STREAM_BLOCK_DIGITS) {
+                int blockLength = (int) Math.min(STREAM_BLOCK_DIGITS, length - from);
+                larger.read(from, x, blockLength);
+                smaller.read(from, y, blockLength);
+                for (int i = 0; i < blockLength; i++) {
+                    int value = subtract ? x[i] - y[i] - carry : x[i] + y[i] + carry;
+                    if (subtract) {
+                        carry = value < 0 ? 1 : 0;
+                        x[i] = value + carry * base;
+                    } else {
+                        carry = value >= base ? 1 : 0;
+                        x[i] = value - carry * base;
+                    }
+                }
+                result.write(from, x, 0, blockLength);
+            }
+            result.numDigits = length;
+            if (carry != 0) {
+                x[0] = carry;
+                result.write(length, x, 0, 1);
+                result.numDigits++;
+            }
+            result.trimTopZeros();
+            return result;
+        }
+    }
+
+    /**
+     * Reduction by one fixed modulus, with its Barrett reciprocal computed once.
+     * A context keeps a scratch accumulator, so it must be confined to one thread;
+     * copy() gives another thread its own context sharing the reciprocal
+     */
+    public static class ModContext {
+
+        // positive modulus and its reciprocal, shared by copies
+        private final PreparedDivisor prepared;
+        private final jxy132330_Jun_Yu_BigNumber_5 modulus;
+        private final MutableBigNumber scratch;
+
+        public ModContext(jxy132330_Jun_Yu_BigNumber_5 modulus) {
+            this(prepareModulus(modulus));
+        }
+
+        private ModContext(PreparedDivisor prepared) {
+            this.prepared = prepared;
+            this.modulus = prepared.divisor;
+            this.scratch = new MutableBigNumber(modulus.base, 2 * modulus.numDigits + 2);
+        }
+
+        private static PreparedDivisor prepareModulus(jxy132330_Jun_Yu_BigNumber_5 modulus) {
+            if (modulus == null || modulus.isNegative() || modulus.isZero()) {
+                throw new ArithmeticException("Modulus is not positive");
+            }
+            return new PreparedDivisor(modulus);
+        }
+
+        /**
+         * Another context of the same modulus for another thread, the reciprocal is not recomputed
+         *
+         * @return new context
+         */
+        public ModContext copy() {
+            return new ModContext(prepared);
+        }
+
+        public jxy132330_Jun_Yu_BigNumber_5 getModulus() {
+            return new jxy132330_Jun_Yu_BigNumber_5(modulus);
+        }
+
+        /**
+         * x mod modulus
+         *
+         * @param x big number, converted to the base of modulus if it differs
+         * @return big number in [0, modulus)
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 mod(jxy132330_Jun_Yu_BigNumber_5 x) {
+            x = inBase(x);
+            jxy132330_Jun_Yu_BigNumber_5 remainder = x.numDigits <= 2 * prepared.n
+                    ? reduceBlock(x) : prepared.dividePositive(x)[1];
+            if (x.isNegative() && !remainder.isZero()) {
+                return modulus.subtract(remainder);
+            }
+            return remainder;
+        }
+
+        /**
+         * (a + b) mod modulus, one subtraction of modulus at most if both are reduced already
+         *
+         * @param a big number, converted to the base of modulus if it differs
+         * @param b big number, converted to the base of modulus if it differs
+         * @return big number in [0, modulus)
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 modAdd(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            scratch.setValue(a);
+            scratch.addTo(b);
+            return reduceScratch();
+        }
+
+        /**
+         * (a - b) mod modulus, one addition of modulus at most if both are reduced already
+         *
+         * @param a big number, converted to the base of modulus if it differs
+         * @param b big number, converted to the base of modulus if it differs
+         * @return big number in [0, modulus)
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 modSub(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            scratch.setValue(a);
+            scratch.subtractFrom(b);
+            return reduceScratch();
+        }
+
+        /**
+         * (a * b) mod modulus
+         *
+         * @param a big number, converted to the base of modulus if it differs
+         * @param b big number, converted to the base of modulus if it differs
+         * @return big number in [0, modulus)
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 modMul(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            return mod(inBase(a).multiply(inBase(b)));
+        }
+
+        /**
+         * (a * a) mod modulus
+         *
+         * @param a big number, converted to the base of modulus if it differs
+         * @return big number in [0, modulus)
+         */
+        public jxy132330_Jun_Yu_BigNumber_5 modSquare(jxy132330_Jun_Yu_BigNumber_5 a) {
+            return mod(squarePositive(inBase(a)));
+        }
+
+        /**
+         * Operand in the base of modulus, converted if it has another base
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 inBase(jxy132330_Jun_Yu_BigNumber_5 x) {
+            return x.base == modulus.base ? x : x.toBase(modulus.base);
+        }
+
+        /**
+         * Barrett's step on the magnitude of x in the scratch accumulator
+         *
+         * @param x at most 2n digits, the sign is ignored
+         * @return |x| mod modulus
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 reduceBlock(jxy132330_Jun_Yu_BigNumber_5 x) {
+            int n = prepared.n;
+            if (compareMagnitude(x.digits, x.numDigits, modulus.digits, modulus.numDigits) < 0) {
+                return x.lowerDigits(x.numDigits);
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5 q = multiplyPositive(x.sliceDigits(n - 1, x.numDigits), prepared.reciprocal)
+                    .shiftRight(n + 1);
+            scratch.setValue(x);
+            scratch.negative = false;
+            scratch.subtractFrom(multiplyPositive(q, modulus));
+            while (scratch.compareShifted(modulus.digits, modulus.numDigits, 0) >= 0) {
+                scratch.subtractFrom(modulus);
+            }
+            return scratch.toBigNumber();
+        }
+
+        /**
+         * Reduce the scratch accumulator, cheap if it is within one modulus of [0, modulus)
+         *
+         * @return big number in [0, modulus)
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 reduceScratch() {
+            if (scratch.isNegative()) {
+                scratch.addTo(modulus);
+                if (!scratch.isNegative()) {
+                    return scratch.toBigNumber();
+                }
+            } else {
+                if (scratch.compareShifted(modulus.digits, modulus.numDigits, 0) < 0) {
+                    return scratch.toBigNumber();
+                }
+                scratch.subtractFrom(modulus);
+                if (scratch.compareShifted(modulus.digits, modulus.numDigits, 0) < 0) {
+                    return scratch.toBigNumber();
+                }
+            }
+            return mod(scratch.toBigNumber());
+        }
+    }
+
+    /**
+     * Power of big number
+     *
+     * @param exp exponent
+     * @return this ^ other
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 power(jxy132330_Jun_Yu_BigNumber_5 exp) {
+        OperationProbe probe = OperationProbe.start(Operation.POWER, this, exp);
+        try {
+            if (exp == null || exp.isNegative()) {
+                return this;
+            }
+
+            if (this.base != exp.getBase()) {
+                // the exponent only counts the multiplications, the result stays in the base of this
+                exp = exp.toBase(this.base);
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
+            result.strToNum("1");
+            jxy132330_Jun_Yu_BigNumber_5 base = new jxy132330_Jun_Yu_BigNumber_5(this);
+
+            // the exponent is halved in place, no new big number per bit
+            MutableBigNumber expTemp = new MutableBigNumber(exp);
+
+            // example : 2^12 = 4^6 = 16^3 = 16 * (16^2) = 16 * 256
+            // this algorithm reduce the running time for power significantly
+            while (!expTemp.isZero()) {
+                if (base.numDigits >= offHeapThreshold) {
+                    return powerOffHeap(result, base, expTemp);
+                }
+                // exp /= 2, the remnant is the lowest bit
+                if (expTemp.divideByIntInPlace(2) == 1) {
+                    result = result.multiply(base);
+                }
+                // square the base, unless it is not needed anymore
+                if (!expTemp.isZero()) {
+                    base = base.square();
+                }
+            }
+
+            return result;
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * The rest of power in mapped off heap numbers, the same steps as the heap loop
+     *
+     * @param result   product so far
+     * @param base     current square, at least offHeapThreshold digits
+     * @param exponent remaining exponent, halved in place
+     * @return result * base ^ exponent, copied back to the heap
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 powerOffHeap(jxy132330_Jun_Yu_BigNumber_5 result,
+                                                            jxy132330_Jun_Yu_BigNumber_5 base,
+                                                            MutableBigNumber exponent) {
+        OffHeapBigNumber offResult = null;
+        OffHeapBigNumber offBase = null;
+        try {
+            offResult = OffHeapBigNumber.of(result, true);
+            offBase = OffHeapBigNumber.of(base, true);
+            while (!exponent.isZero()) {
+                if (exponent.divideByIntInPlace(2) == 1) {
+                    OffHeapBigNumber previous = offResult;
+                    offResult = offResult.multiply(offBase);
+                    previous.close();
+                }
+                if (!exponent.isZero()) {
+                    OffHeapBigNumber previous = offBase;
+                    offBase = offBase.square();
+                    previous.close();
+                }
+            }
+            return offResult.toBigNumber();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (offResult != null) {
+                offResult.close();
+            }
+            if (offBase != null) {
+                offBase.close();
+            }
+        }
+    }
+
+    /**
+     * Modular power, this ^ exponent mod modulus, never building the full power
+     *
+     * @param exponent big number, negative for the power of the modular inverse
+     * @param modulus  positive big number
+     * @return big number in [0, modulus)
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 modPow(jxy132330_Jun_Yu_BigNumber_5 exponent,
+                                               jxy132330_Jun_Yu_BigNumber_5 modulus) {
+        return modPow(exponent, modulus, false);
+    }
+
+    /**
+     * Modular power, this ^ exponent mod modulus.
+     * Montgomery multiplication is used when modulus is coprime to base and shorter than montgomeryThreshold,
+     * otherwise Barrett's reduction.
+     * The exponent is scanned by sliding windows of odd powers; in constant time mode by fixed windows
+     * over a length derived from the number of digits only, always multiplying by an entry selected with masks.
+     * With modulus coprime to base, constant time mode uses Montgomery multiplication at any length,
+     * and every product is the same pass over the digits of modulus, so that the sequence of operations
+     * and table accesses does not depend on the exponent bits. With Barrett's reduction the schedule is fixed,
+     * but the multiplication kernels and the corrections of the reduction still depend on the values
+     * Reference: <a href="https://en.wikipedia.org/wiki/Montgomery_modular_multiplication">Montgomery multiplication</a>
+     *
+     * @param exponent     big number, negative for the power of the modular inverse
+     * @param modulus      positive big number
+     * @param constantTime whether to use the fixed window schedule
+     * @return big number in [0, modulus), in the base of modulus
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 modPow(jxy132330_Jun_Yu_BigNumber_5 exponent,
+                                               jxy132330_Jun_Yu_BigNumber_5 modulus, boolean constantTime) {
+        if (exponent == null || modulus == null) {
+            throw new IllegalArgumentException("exponent or modulus is null");
+        }
+        if (modulus.isNegative() || modulus.isZero()) {
+            throw new ArithmeticException("Modulus is not positive");
+        }
+        if (this.base != modulus.getBase() || exponent.getBase() != modulus.getBase()) {
+            return this.toBase(modulus.getBase()).modPow(exponent.toBase(modulus.getBase()), modulus, constantTime);
+        }
+        if (modulus.numDigits == 1 && modulus.digits[0] == 1) {
+            return new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+        if (exponent.isNegative()) {
+            jxy132330_Jun_Yu_BigNumber_5 positive = new jxy132330_Jun_Yu_BigNumber_5(exponent);
+            positive.negate();
+            return modInverse(modulus).modPow(positive, modulus, constantTime);
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 x = this.divideAndRemainder(modulus)[1];
+        if (x.isNegative()) {
+            x = x.add(modulus);
+        }
+
+        ModularMultiplier multiplier = gcdInt(modulus.digits[0], base) == 1
+                && (constantTime || modulus.numDigits < montgomeryThreshold)
+                ? new MontgomeryMultiplier(modulus) : new BarrettMultiplier(modulus);
+
+        // the exponent in 30 bits words, least significant first
+        MutableBigNumber remaining = new MutableBigNumber(exponent);
+        int[] words = new int[exponent.numDigits / 2 + 1];
+        int numWords = 0;
+        while (!remaining.isZero()) {
+            words[numWords++] = remaining.divideByIntInPlace(1 << EXPONENT_WORD_BITS);
+        }
+        int bitLength = numWords == 0 ? 0
+                : (numWords - 1) * EXPONENT_WORD_BITS + 32 - Integer.numberOfLeadingZeros(words[numWords - 1]);
+
+        jxy132330_Jun_Yu_BigNumber_5 result;
+        if (constantTime) {
+            // the length depends on the number of digits of exponent only
+            int paddedLength = (int) Math.ceil(exponent.numDigits * Math.log(base) / Math.log(2));
+            result = modPowFixedWindow(multiplier.toForm(x), words, Math.max(paddedLength, bitLength), multiplier);
+        } else {
+            result = modPowSlidingWindow(multiplier.toForm(x), words, bitLength, multiplier);
+        }
+        return multiplier.fromForm(result);
+    }
+
+    /**
+     * Window size for an exponent of some bits, the same trade off as java.math.BigInteger
+     *
+     * @param bitLength the number of bits of exponent
+     * @return the number of bits of a window
+     */
+    private static int windowSize(int bitLength) {
+        int size = 1;
+        while (size <= WINDOW_THRESHOLDS.length && bitLength > WINDOW_THRESHOLDS[size - 1]) {
+            size++;
+        }
+        return size;
+    }
+
+    private static int exponentBit(int[] words, int index) {
+        int word = index / EXPONENT_WORD_BITS;
+        return word < words.length ? (words[word] >>> (index % EXPONENT_WORD_BITS)) & 1 : 0;
+    }
+
+    /**
+     * Left to right sliding window exponentiation, only the odd powers up to 2 ^ k - 1 are precomputed
+     *
+     * @param x          base in the form of multiplier
+     * @param words      exponent in 30 bits words
+     * @param bitLength  the number of bits of exponent
+     * @param multiplier modular multiplication
+     * @return x ^ exponent in the form of multiplier
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 modPowSlidingWindow(jxy132330_Jun_Yu_BigNumber_5 x, int[] words,
+                                                                    int bitLength, ModularMultiplier multiplier) {
+        int k = windowSize(bitLength);
+        jxy132330_Jun_Yu_BigNumber_5[] oddPowers = new jxy132330_Jun_Yu_BigNumber_5[1 << (k - 1)];
+        oddPowers[0] = x;
+        if (oddPowers.length > 1) {
+            jxy132330_Jun_Yu_BigNumber_5 square = multiplier.square(x);
+            for (int i = 1; i < oddPowers.length; i++) {
+                oddPowers[i] = multiplier.multiply(oddPowers[i - 1], square);
+            }
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 result = null;
+        int i = bitLength - 1;
+        while (i >= 0) {
+            if (exponentBit(words, i) == 0) {
+                result = multiplier.square(result);
+                i--;
+                continue;
+            }
+
+            // the longest window [j, i] ending with a set bit
+            int j = Math.max(i - k + 1, 0);
+            while (exponentBit(words, j) == 0) {
+                j++;
+            }
+            int window = 0;
+            for (int b = i; b >= j; b--) {
+                window = (window << 1) | exponentBit(words, b);
+                if (result != null) {
+                    result = multiplier.square(result);
+                }
+            }
+            result = result == null ? oddPowers[window >> 1] : multiplier.multiply(result, oddPowers[window >> 1]);
+            i = j - 1;
+        }
+        return result == null ? multiplier.one() : result;
+    }
+
+    /**
+     * Fixed window exponentiation, every window costs k squares and one multiplication,
+     * even if the window is zero, and the table entry is selected without branches
+     *
+     * @param x          base in the form of multiplier
+     * @param words      exponent in 30 bits words
+     * @param bitLength  the number of bits scanned, may be more than the bits of exponent
+     * @param multiplier modular multiplication
+     * @return x ^ exponent in the form of multiplier
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 modPowFixedWindow(jxy132330_Jun_Yu_BigNumber_5 x, int[] words,
+                                                                  int bitLength, ModularMultiplier multiplier) {
+        int k = windowSize(bitLength);
+        int width = multiplier.modulus.numDigits;
+        int[][] table = new int[1 << k][];
+        jxy132330_Jun_Yu_BigNumber_5 power = multiplier.one();
+        for (int i = 0; i < table.length; i++) {
+            table[i] = Arrays.copyOf(power.digits, width);
+            power = multiplier.multiply(power, x);
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 result = multiplier.one();
+        int[] selected = new int[width];
+        for (int top = (bitLength + k - 1) / k * k - 1; top >= 0; top -= k) {
+            int window = 0;
+            for (int b = top; b > top - k; b--) {
+                window = (window << 1) | exponentBit(words, b);
+                result = multiplier.square(result);
+            }
+
+            // every entry is read, the one equal to window is kept by the mask
+            Arrays.fill(selected, 0);
+            for (int i = 0; i < table.length; i++) {
+                int mask = ((i ^ window) - 1) >> 31;
+                for (int d = 0; d < width; d++) {
+                    selected[d] |= table[i][d] & mask;
+                }
+            }
+            result = multiplier.multiply(result, fromDigits(multiplier.modulus.base, selected.clone(), width));
+        }
+        return result;
+    }
+
+    /**
+     * Greatest common divisor of two non negative integers
+     */
+    private static int gcdInt(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Inverse of a modulo m by extended Euclidean algorithm
+     *
+     * @param a integer coprime to m
+     * @param m positive modulus
+     * @return a ^ -1 mod m in [0, m)
+     */
+    private static int inverseInt(int a, int m) {
+        long oldR = a, r = m, oldS = 1, s = 0;
+        while (r != 0) {
+            long q = oldR / r;
+            long t = oldR - q * r;
+            oldR = r;
+            r = t;
+            t = oldS - q * s;
+            oldS = s;
+            s = t;
+        }
+        return (int) (((oldS % m) + m) % m);
+    }
+
+    /**
+     * Multiplication modulo a fixed modulus, in its own representation of residues
+     */
+    private abstract static class ModularMultiplier {
+
+        // positive modulus
+        final jxy132330_Jun_Yu_BigNumber_5 modulus;
+
+        ModularMultiplier(jxy132330_Jun_Yu_BigNumber_5 modulus) {
+            this.modulus = modulus;
+        }
+
+        /**
+         * @param x residue in [0, modulus)
+         * @return x in the representation
+         */
+        abstract jxy132330_Jun_Yu_BigNumber_5 toForm(jxy132330_Jun_Yu_BigNumber_5 x);
+
+        abstract jxy132330_Jun_Yu_BigNumber_5 fromForm(jxy132330_Jun_Yu_BigNumber_5 x);
+
+        /**
+         * @return 1 in the representation
+         */
+        abstract jxy132330_Jun_Yu_BigNumber_5 one();
+
+        abstract jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b);
+
+        jxy132330_Jun_Yu_BigNumber_5 square(jxy132330_Jun_Yu_BigNumber_5 a) {
+            return multiply(a, a);
+        }
+    }
+
+    /**
+     * Montgomery representation x * R mod modulus with R = base ^ n, where n is the number of digits of modulus.
+     * The product is reduced by REDC, which divides by R exactly instead of by modulus,
+     * so it requires modulus coprime to base. The product and the reduction are one quadratic pass over n digits,
+     * faster than a product and Barrett's reduction until the subquadratic kernels take over, see montgomeryThreshold.
+     * The residues keep at least n digits in their arrays, zeros above numDigits, so that the pass reads a fixed width
+     */
+    private static class MontgomeryMultiplier extends ModularMultiplier {
+
+        private final int base;
+        private final int n;
+        // -modulus ^ -1 mod base
+        private final int inverse;
+        // R mod modulus
+        private final jxy132330_Jun_Yu_BigNumber_5 one;
+
+        MontgomeryMultiplier(jxy132330_Jun_Yu_BigNumber_5 modulus) {
+            super(modulus);
+            this.base = modulus.base;
+            this.n = modulus.numDigits;
+            this.inverse = (base - inverseInt(modulus.digits[0], base)) % base;
+            this.one = toForm(fromInt(1, base));
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 toForm(jxy132330_Jun_Yu_BigNumber_5 x) {
+            jxy132330_Jun_Yu_BigNumber_5 remainder = dividePositive(x.shiftLeft(n), modulus)[1];
+            int[] digits = new int[n + 1];
+            System.arraycopy(remainder.digits, 0, digits, 0, remainder.numDigits);
+            return fromDigits(base, digits, n + 1);
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 fromForm(jxy132330_Jun_Yu_BigNumber_5 x) {
+            return multiply(x, fromInt(1, base));
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 one() {
+            return one;
+        }
+
+        /**
+         * a * b * R ^ -1 mod modulus, the rows a * b[i] and u[i] * modulus are added to column sums without carrying;
+         * the column i is complete after its rows, so the digit u[i] that makes it 0 mod base is known then,
+         * and only its carry moves on. 2 * n ^ 2 multiplications, the same for any value of a and b
+         *
+         * @param a residue with at least n digits in its array
+         * @param b residue with at least n digits in its array
+         * @return residue in [0, modulus)
+         */
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            int[] x = a.digits.length >= n ? a.digits : Arrays.copyOf(a.digits, n);
+            int[] y = b.digits.length >= n ? b.digits : Arrays.copyOf(b.digits, n);
+            int[] m = modulus.digits;
+            int[] result = new int[n + 1];
+
+            ScratchArena arena = ScratchArena.get();
+            int mark = arena.open();
+            try {
+                // a column collects at most 2 * n products of two digits, far from overflow
+                long[] columns = arena.longs(2 * n);
+                long carry = 0;
+                for (int i = 0; i < n; i++) {
+                    long yi = y[i];
+                    for (int j = 0; j < n; j++) {
+                        columns[i + j] += x[j] * yi;
+                    }
+                    long column = columns[i] + carry;
+                    long ui = column % base * inverse % base;
+                    for (int j = 0; j < n; j++) {
+                        columns[i + j] += ui * m[j];
+                    }
+                    carry = (column + ui * m[0]) / base;
+                }
+                for (int k = n; k < 2 * n; k++) {
+                    long column = columns[k] + carry;
+                    carry = column / base;
+                    result[k - n] = (int) (column - carry * base);
+                }
+                result[n] = (int) carry;
+
+                return subtractModulus(result, arena.ints(n + 1));
+            } finally {
+                arena.close(mark);
+            }
+        }
+
+        /**
+         * Subtract modulus once if needed, the difference is always computed and selected by mask
+         *
+         * @param result     n + 1 digits, less than 2 * modulus, output
+         * @param difference scratch of n + 1 digits
+         * @return result in [0, modulus)
+         */
+        private jxy132330_Jun_Yu_BigNumber_5 subtractModulus(int[] result, int[] difference) {
+            int[] m = modulus.digits;
+            int borrow = 0;
+            for (int i = 0; i <= n; i++) {
+                int diff = result[i] - (i < n ? m[i] : 0) - borrow;
+                borrow = diff >>> 31;
+                difference[i] = diff + borrow * base;
+            }
+            int keep = -borrow;
+            for (int i = 0; i <= n; i++) {
+                result[i] = (result[i] & keep) | (difference[i] & ~keep);
+            }
+            return fromDigits(base, result, n + 1);
+        }
+    }
+
+    /**
+     * Plain residues, the product is reduced by Barrett's reduction of a ModContext, for any modulus
+     */
+    private static class BarrettMultiplier extends ModularMultiplier {
+
+        private final ModContext context;
+        private final jxy132330_Jun_Yu_BigNumber_5 one;
+
+        BarrettMultiplier(jxy132330_Jun_Yu_BigNumber_5 modulus) {
+            super(modulus);
+            this.context = new ModContext(modulus);
+            this.one = fromInt(1, modulus.base);
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 toForm(jxy132330_Jun_Yu_BigNumber_5 x) {
+            return x;
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 fromForm(jxy132330_Jun_Yu_BigNumber_5 x) {
+            return x;
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 one() {
+            return one;
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            return context.mod(multiplyPositive(a, b));
+        }
+
+        @Override
+        jxy132330_Jun_Yu_BigNumber_5 square(jxy132330_Jun_Yu_BigNumber_5 a) {
+            return context.modSquare(a);
+        }
+    }
+
+    /**
+     * Greatest common divisor
+     *
+     * @param other big number
+     * @return non negative gcd of this and other
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 gcd(jxy132330_Jun_Yu_BigNumber_5 other) {
+        if (other == null) {
+            throw new IllegalArgumentException("other is null");
+        }
+        if (this.base != other.getBase()) {
+            jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, other);
+            return operands[0].gcd(operands[1]);
+        }
+
+        GcdState state = new GcdState(this.lowerDigits(numDigits), other.lowerDigits(other.numDigits), false);
+        state.run();
+        return state.a;
+    }
+
+    /**
+     * Extended Euclidean algorithm, gcd = s * this + t * other
+     *
+     * @param other big number
+     * @return array of non negative gcd, s and t
+     */
+    public jxy132330_Jun_Yu_BigNumber_5[] extendedGcd(jxy132330_Jun_Yu_BigNumber_5 other) {
+        if (other == null) {
+            throw new IllegalArgumentException("other is null");
+        }
+        if (this.base != other.getBase()) {
+            jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, other);
+            return operands[0].extendedGcd(operands[1]);
+        }
+
+        GcdState state = new GcdState(this.lowerDigits(numDigits), other.lowerDigits(other.numDigits), true);
+        state.run();
+        jxy132330_Jun_Yu_BigNumber_5 g = state.a;
+        jxy132330_Jun_Yu_BigNumber_5 s = state.sa;
+        if (this.isNegative()) {
+            s.negate();
+        }
+
+        // t = (gcd - s * this) / other exactly
+        jxy132330_Jun_Yu_BigNumber_5 t = other.isZero()
+                ? new jxy132330_Jun_Yu_BigNumber_5(base) : g.subtract(s.multiply(this)).divide(other);
+        return new jxy132330_Jun_Yu_BigNumber_5[]{g, s, t};
+    }
+
+    /**
+     * Modular inverse, x such that this * x = 1 mod modulus
+     *
+     * @param modulus positive big number
+     * @return big number in [0, modulus)
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 modInverse(jxy132330_Jun_Yu_BigNumber_5 modulus) {
+        if (modulus == null || modulus.isNegative() || modulus.isZero()) {
+            throw new ArithmeticException("Modulus is not positive");
+        }
+        if (this.base != modulus.getBase()) {
+            jxy132330_Jun_Yu_BigNumber_5[] operands = toCommonBase(this, modulus);
+            return operands[0].modInverse(operands[1]);
+        }
+        if (modulus.numDigits == 1 && modulus.digits[0] == 1) {
+            return new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 x = this.divideAndRemainder(modulus)[1];
+        jxy132330_Jun_Yu_BigNumber_5[] gst = x.extendedGcd(modulus);
+        if (gst[0].numDigits != 1 || gst[0].digits[0] != 1) {
+            throw new ArithmeticException("Not invertible");
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 inverse = gst[1].divideAndRemainder(modulus)[1];
+        return inverse.isNegative() ? inverse.add(modulus) : inverse;
+    }
+
+    /**
+     * Signed big number of a long
+     *
+     * @param value any long but Long.MIN_VALUE
+     * @param base  base of digits
+     * @return new big number
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 fromLong(long value, int base) {
+        jxy132330_Jun_Yu_BigNumber_5 result = fromInt(Math.abs(value), base);
+        result.negative = value < 0 && !result.isZero();
+        return result;
+    }
+
+    /**
+     * The number of digits that always fits in a long of 62 bits
+     */
+    private static int longDigits(int base) {
+        return (int) (62 / (Math.log(base) / Math.log(2)));
+    }
+
+    /**
+     * Binary gcd of two non negative longs
+     */
+    private static long gcdLong(long x, long y) {
+        if (x == 0) {
+            return y;
+        }
+        if (y == 0) {
+            return x;
+        }
+
+        int shift = Long.numberOfTrailingZeros(x | y);
+        x >>= Long.numberOfTrailingZeros(x);
+        while (y != 0) {
+            y >>= Long.numberOfTrailingZeros(y);
+            if (x > y) {
+                long t = x;
+                x = y;
+                y = t;
+            }
+            y -= x;
+        }
+        return x << shift;
+    }
+
+    /**
+     * Lehmer's cosequence of two big numbers, simulated on their leading digits.
+     * Euclid's steps are taken as long as the quotients of both bounds of the leading digits agree,
+     * so every step is also a step of the full numbers
+     * Reference: Knuth, The Art of Computer Programming, Vol 2, 4.5.2, Algorithm L
+     *
+     * @param a non negative, a >= b, longer than the digits of a long
+     * @param b non negative
+     * @return array of A, B, C, D so that (A * a + B * b, C * a + D * b) are the next remainders,
+     * null if no step can be taken
+     */
+    private static long[] lehmerCosequence(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+        int n = a.numDigits;
+        int top = longDigits(a.base);
+        long x = 0;
+        long y = 0;
+        for (int i = n - 1; i >= n - top; i--) {
+            x = x * a.base + a.digits[i];
+            y = y * a.base + (i < b.numDigits ? b.digits[i] : 0);
+        }
+
+        long p = 1, q = 0, r = 0, s = 1;
+        while (y + r != 0 && y + s != 0) {
+            long quotient = (x + p) / (y + r);
+            if (quotient != (x + q) / (y + s)) {
+                break;
+            }
+            long nextR = p - quotient * r;
+            long nextS = q - quotient * s;
+            if (Math.abs(nextR) >= LEHMER_COFACTOR_LIMIT || Math.abs(nextS) >= LEHMER_COFACTOR_LIMIT) {
+                break;
+            }
+            p = r;
+            r = nextR;
+            q = s;
+            s = nextS;
+            long t = x - quotient * y;
+            x = y;
+            y = t;
+        }
+        return q == 0 ? null : new long[]{p, q, r, s};
+    }
+
+    /**
+     * x * a + y * b in one pass, for the cosequence of Lehmer's step
+     *
+     * @param a non negative
+     * @param x coefficient, less than LEHMER_COFACTOR_LIMIT in absolute
+     * @param b non negative
+     * @param y coefficient, less than LEHMER_COFACTOR_LIMIT in absolute
+     * @return x * a + y * b, which must be non negative
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 combineMagnitudes(jxy132330_Jun_Yu_BigNumber_5 a, long x,
+                                                                  jxy132330_Jun_Yu_BigNumber_5 b, long y) {
+        int base = a.base;
+        int length = Math.max(a.numDigits, b.numDigits);
+        int[] result = new int[length + carryDigits(Math.abs(x) + Math.abs(y), base) + 1];
+        // the quotient by base is estimated in double, off by at most one
+        double inverse = 1.0 / base;
+        long carry = 0;
+        int i = 0;
+        for (; i < length; i++) {
+            long value = carry + (i < a.numDigits ? x * a.digits[i] : 0) + (i < b.numDigits ? y * b.digits[i] : 0);
+            carry = (long) (value * inverse);
+            long digit = value - carry * base;
+            if (digit < 0) {
+                digit += base;
+                carry--;
+            } else if (digit >= base) {
+                digit -= base;
+                carry++;
+            }
+            result[i] = (int) digit;
+        }
+        while (carry > 0) {
+            long next = carry / base;
+            result[i++] = (int) (carry - next * base);
+            carry = next;
+        }
+        if (carry < 0) {
+            throw new ArithmeticException("Lehmer's cosequence is not valid");
+        }
+        return fromDigits(base, result, result.length);
+    }
+
+    /**
+     * x * a + y * b of signed big numbers.
+     * Cofactors of Euclid's steps alternate in sign, so usually both terms have the same sign
+     * and the magnitude is computed in one pass
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 linearCombination(jxy132330_Jun_Yu_BigNumber_5 a, long x,
+                                                                  jxy132330_Jun_Yu_BigNumber_5 b, long y) {
+        boolean aNegative = (x < 0) != a.negative;
+        boolean bNegative = (y < 0) != b.negative;
+        boolean aZero = x == 0 || a.isZero();
+        boolean bZero = y == 0 || b.isZero();
+        if (!aZero && !bZero && aNegative != bNegative) {
+            return a.multiply(fromLong(x, a.base)).add(b.multiply(fromLong(y, a.base)));
+        }
+
+        jxy132330_Jun_Yu_BigNumber_5 result = combineMagnitudes(a, Math.abs(x), b, Math.abs(y));
+        result.negative = !result.isZero() && (aZero ? bNegative : aNegative);
+        return result;
+    }
+
+    /**
+     * Product of 2 x 2 matrices, {m00, m01, m10, m11}
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] multiplyMatrix(jxy132330_Jun_Yu_BigNumber_5[] left,
+                                                                 jxy132330_Jun_Yu_BigNumber_5[] right) {
+        return new jxy132330_Jun_Yu_BigNumber_5[]{
+                left[0].multiply(right[0]).add(left[1].multiply(right[2])),
+                left[0].multiply(right[1]).add(left[1].multiply(right[3])),
+                left[2].multiply(right[0]).add(left[3].multiply(right[2])),
+                left[2].multiply(right[1]).add(left[3].multiply(right[3]))};
+    }
+
+    /**
+     * Matrix of one Euclid's step with quotient q, (a, b) to (b, a - q * b)
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] quotientMatrix(jxy132330_Jun_Yu_BigNumber_5 q) {
+        int base = q.base;
+        jxy132330_Jun_Yu_BigNumber_5 minusQ = new jxy132330_Jun_Yu_BigNumber_5(q);
+        minusQ.negate();
+        return new jxy132330_Jun_Yu_BigNumber_5[]{
+                new jxy132330_Jun_Yu_BigNumber_5(base), fromInt(1, base), fromInt(1, base), minusQ};
+    }
+
+    /**
+     * Half GCD, a matrix of Euclid's steps reducing a of n digits to about n / 2 digits.
+     * The matrix of the top half digits is computed recursively and applied to the full numbers twice,
+     * the quotients of the top digits are those of the full numbers while the remainders are long enough.
+     * Every reduced pair is verified, a pair that is not ordered or negative is discarded,
+     * so the result is always a true reduction, only the progress may be less
+     * Reference: <a href="https://gmplib.org/manual/Subquadratic-GCD">Subquadratic GCD</a>
+     *
+     * @param a non negative, a >= b
+     * @param b non negative
+     * @return array of m00, m01, m10, m11, a', b' where (a', b') = M (a, b) and a' >= b' >= 0,
+     * null if no progress
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] halfGcd(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                          jxy132330_Jun_Yu_BigNumber_5 b) {
+        int n = a.numDigits;
+        int target = n / 2 + 1;
+        if (b.numDigits <= target) {
+            return null;
+        }
+        if (n < halfGcdThreshold) {
+            return halfGcdLehmer(a, b, target);
+        }
+
+        // reduce by the top half, from n digits to about 3n / 4
+        int p = n / 2;
+        jxy132330_Jun_Yu_BigNumber_5[] matrix = null;
+        jxy132330_Jun_Yu_BigNumber_5[] high = halfGcd(a.sliceDigits(p, n), b.sliceDigits(p, n));
+        if (high != null) {
+            matrix = applyIfReduced(high, a, b);
+            if (matrix != null) {
+                a = matrix[4];
+                b = matrix[5];
+            }
+        }
+
+        // one exact step between the two halves
+        if (b.numDigits > target) {
+            jxy132330_Jun_Yu_BigNumber_5[] qr = dividePositive(a, b);
+            jxy132330_Jun_Yu_BigNumber_5[] step = quotientMatrix(qr[0]);
+            matrix = matrix == null ? step : multiplyMatrix(step, matrix);
+            a = b;
+            b = qr[1];
+        }
+
+        // reduce by the top of the rest, to about n / 2 digits
+        int shift = 2 * target - 2 - a.numDigits;
+        if (b.numDigits > target && shift > 0) {
+            high = halfGcd(a.sliceDigits(shift, a.numDigits), b.sliceDigits(shift, a.numDigits));
+            if (high != null) {
+                jxy132330_Jun_Yu_BigNumber_5[] reduced = applyIfReduced(high, a, b);
+                if (reduced != null) {
+                    matrix = multiplyMatrix(reduced, matrix);
+                    a = reduced[4];
+                    b = reduced[5];
+                }
+            }
+        }
+
+        if (matrix == null) {
+            return null;
+        }
+        return new jxy132330_Jun_Yu_BigNumber_5[]{matrix[0], matrix[1], matrix[2], matrix[3], a, b};
+    }
+
+    /**
+     * Apply a matrix to (a, b) if the result is a valid reduction
+     *
+     * @param matrix m00, m01, m10, m11 and more
+     * @param a      non negative, a >= b
+     * @param b      non negative
+     * @return array of m00, m01, m10, m11, a', b', null if a' < b' or b' < 0
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] applyIfReduced(jxy132330_Jun_Yu_BigNumber_5[] matrix,
+                                                                 jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                 jxy132330_Jun_Yu_BigNumber_5 b) {
+        jxy132330_Jun_Yu_BigNumber_5 newA = matrix[0].multiply(a).add(matrix[1].multiply(b));
+        jxy132330_Jun_Yu_BigNumber_5 newB = matrix[2].multiply(a).add(matrix[3].multiply(b));
+        if (newB.isNegative() || newA.compareTo(newB) < 0) {
+            return null;
+        }
+        return new jxy132330_Jun_Yu_BigNumber_5[]{matrix[0], matrix[1], matrix[2], matrix[3], newA, newB};
+    }
+
+    /**
+     * Base case of half GCD, Lehmer's steps on the exact numbers until b has at most target digits.
+     * Close to the target single Euclid's steps are taken, so that it does not go much further
+     *
+     * @param a      non negative, a >= b
+     * @param b      non negative
+     * @param target the number of digits to stop at
+     * @return the same as halfGcd
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] halfGcdLehmer(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                                jxy132330_Jun_Yu_BigNumber_5 b, int target) {
+        int base = a.base;
+        int top = longDigits(base);
+        jxy132330_Jun_Yu_BigNumber_5[] matrix = {fromInt(1, base), new jxy132330_Jun_Yu_BigNumber_5(base),
+                new jxy132330_Jun_Yu_BigNumber_5(base), fromInt(1, base)};
+
+        while (b.numDigits > target) {
+            long[] cosequence = b.numDigits > target + top && a.numDigits - b.numDigits <= 1
+                    ? lehmerCosequence(a, b) : null;
+            if (cosequence == null) {
+                jxy132330_Jun_Yu_BigNumber_5[] qr = dividePositive(a, b);
+                matrix = multiplyMatrix(quotientMatrix(qr[0]), matrix);
+                a = b;
+                b = qr[1];
+            } else {
+                jxy132330_Jun_Yu_BigNumber_5 newA = combineMagnitudes(a, cosequence[0], b, cosequence[1]);
+                b = combineMagnitudes(a, cosequence[2], b, cosequence[3]);
+                a = newA;
+                matrix = new jxy132330_Jun_Yu_BigNumber_5[]{
+                        linearCombination(matrix[0], cosequence[0], matrix[2], cosequence[1]),
+                        linearCombination(matrix[1], cosequence[0], matrix[3], cosequence[1]),
+                        linearCombination(matrix[0], cosequence[2], matrix[2], cosequence[3]),
+                        linearCombination(matrix[1], cosequence[2], matrix[3], cosequence[3])};
+            }
+        }
+        return new jxy132330_Jun_Yu_BigNumber_5[]{matrix[0], matrix[1], matrix[2], matrix[3], a, b};
+    }
+
+    /**
+     * Remainder sequence of gcd, with the cofactor of the first operand if extended.
+     * Half GCD for long operands, Lehmer's steps for shorter ones, binary gcd in long at last
+     */
+    private static class GcdState {
+
+        private final int base;
+        private final boolean extended;
+        // a >= b >= 0
+        private jxy132330_Jun_Yu_BigNumber_5 a;
+        private jxy132330_Jun_Yu_BigNumber_5 b;
+        // a = sa * x + ... and b = sb * x + ..., where x is the first operand
+        private jxy132330_Jun_Yu_BigNumber_5 sa;
+        private jxy132330_Jun_Yu_BigNumber_5 sb;
+
+        GcdState(jxy132330_Jun_Yu_BigNumber_5 x, jxy132330_Jun_Yu_BigNumber_5 y, boolean extended) {
+            this.base = x.base;
+            this.extended = extended;
+            boolean swap = compareMagnitude(x.digits, x.numDigits, y.digits, y.numDigits) < 0;
+            this.a = swap ? y : x;
+            this.b = swap ? x : y;
+            if (extended) {
+                this.sa = swap ? new jxy132330_Jun_Yu_BigNumber_5(base) : fromInt(1, base);
+                this.sb = swap ? fromInt(1, base) : new jxy132330_Jun_Yu_BigNumber_5(base);
+            }
+        }
+
+        void run() {
+            int small = longDigits(base);
+            while (!b.isZero()) {
+                if (a.numDigits <= small) {
+                    finishInLong();
+                    return;
+                }
+
+                if (a.numDigits - b.numDigits > 1) {
+                    divisionStep();
+                } else if (b.numDigits >= halfGcdThreshold) {
+                    jxy132330_Jun_Yu_BigNumber_5[] reduced = halfGcd(a, b);
+                    if (reduced == null) {
+                        divisionStep();
+                    } else {
+                        apply(reduced);
+                    }
+                } else {
+                    long[] cosequence = lehmerCosequence(a, b);
+                    if (cosequence == null) {
+                        divisionStep();
+                    } else {
+                        jxy132330_Jun_Yu_BigNumber_5 newA = combineMagnitudes(a, cosequence[0], b, cosequence[1]);
+                        b = combineMagnitudes(a, cosequence[2], b, cosequence[3]);
+                        a = newA;
+                        if (extended) {
+                            jxy132330_Jun_Yu_BigNumber_5 newSa = linearCombination(sa, cosequence[0], sb, cosequence[1]);
+                            sb = linearCombination(sa, cosequence[2], sb, cosequence[3]);
+                            sa = newSa;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void divisionStep() {
+            jxy132330_Jun_Yu_BigNumber_5[] qr = dividePositive(a, b);
+            a = b;
+            b = qr[1];
+            if (extended) {
+                jxy132330_Jun_Yu_BigNumber_5 newSb = sa.subtract(qr[0].multiply(sb));
+                sa = sb;
+                sb = newSb;
+            }
+        }
+
+        private void apply(jxy132330_Jun_Yu_BigNumber_5[] reduced) {
+            a = reduced[4];
+            b = reduced[5];
+            if (extended) {
+                jxy132330_Jun_Yu_BigNumber_5 newSa = reduced[0].multiply(sa).add(reduced[1].multiply(sb));
+                sb = reduced[2].multiply(sa).add(reduced[3].multiply(sb));
+                sa = newSa;
+            }
+        }
+
+        /**
+         * Both fit in long, binary gcd, or extended Euclid in long for the cofactor
+         */
+        private void finishInLong() {
+            long x = 0;
+            long y = 0;
+            for (int i = a.numDigits - 1; i >= 0; i--) {
+                x = x * base + a.digits[i];
+                y = y * base + (i < b.numDigits ? b.digits[i] : 0);
+            }
+
+            if (!extended) {
+                a = fromInt(gcdLong(x, y), base);
+                b = new jxy132330_Jun_Yu_BigNumber_5(base);
+                return;
+            }
+
+            // oldU * x + oldV * y = gcd
+            long oldR = x, r = y, oldU = 1, u = 0, oldV = 0, v = 1;
+            while (r != 0) {
+                long q = oldR / r;
+                long t = oldR - q * r;
+                oldR = r;
+                r = t;
+                t = oldU - q * u;
+                oldU = u;
+                u = t;
+                t = oldV - q * v;
+                oldV = v;
+                v = t;
+            }
+            // the cofactors of long may exceed LEHMER_COFACTOR_LIMIT
+            sa = sa.multiply(fromLong(oldU, base)).add(sb.multiply(fromLong(oldV, base)));
+            a = fromInt(oldR, base);
+            b = new jxy132330_Jun_Yu_BigNumber_5(base);
+        }
+    }
+
+    /**
+     * The estimation of the number that close to this, usually the half length of this
+     *
+     * @return estimation of sqrt
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 closeToSqrt() {
+        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this);
+        int size = result.getNumDigit();
+        if ((size & 1) == 0) {
+            // even
+            result = result.shiftRight(getNumDigit() / 2);
+            int digit = result.digits[result.numDigits - 1];
+            result = result.shiftLeft(1);
+            result.addDigit((int) Math.sqrt(digit));
+        } else {
+            result = result.shiftRight(getNumDigit() / 2);
+            int digit = result.digits[result.numDigits - 1];
+            result.addDigit((int) Math.sqrt(digit));
+        }
+
+        return result;
+    }
+
+    /**
+     * Square root, the floor of the exact root
+     *
+     * @return sqrt of this
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 sqrt() {
+        return sqrtAndRemainder()[0];
+    }
+
+    /**
+     * Square root and remainder, so that this = root * root + remainder and 0 <= remainder <= 2 * root.
+     * This is multiplied by c ^ 2 first, so that it has 2n digits and is at least base ^ (2n) / 4,
+     * then the root is computed by Karatsuba square root, and finally divided by c
+     * Reference: <a href="https://hal.inria.fr/inria-00072854/document">Zimmermann, Karatsuba Square Root</a>
+     *
+     * @return array of root and remainder
+     */
+    public jxy132330_Jun_Yu_BigNumber_5[] sqrtAndRemainder() {
+        OperationProbe probe = OperationProbe.start(Operation.SQRT, this, null);
+        try {
+            if (this.isNegative()) {
+                throw new ArithmeticException("Negative number can not sqrt");
+            }
+            if (this.isZero()) {
+                return new jxy132330_Jun_Yu_BigNumber_5[]{
+                        new jxy132330_Jun_Yu_BigNumber_5(base), new jxy132330_Jun_Yu_BigNumber_5(base)};
+            }
+
+            int n = (numDigits + 1) / 2;
+
+            // seed of c from the top digits, c ^ 2 is about base ^ (2n) / this
+            double top = 0;
+            int topDigits = Math.min(numDigits, 3);
+            for (int i = 1; i <= topDigits; i++) {
+                top = top * base + digits[numDigits - i];
+            }
+            double ratio = Math.pow(base, 2 * n - numDigits + topDigits) / top;
+            int c = Math.max(1, (int) Math.sqrt(ratio));
+
+            // make sure base ^ (2n) / 4 <= this * c ^ 2 < base ^ (2n) exactly
+            jxy132330_Jun_Yu_BigNumber_5 normalized;
+            while (true) {
+                normalized = c == 1 ? this : this.multiply(c * c);
+                if (normalized.numDigits > 2 * n) {
+                    c--;
+                } else if (normalized.multiply(4).numDigits <= 2 * n) {
+                    c++;
+                } else {
+                    break;
+                }
+            }
+
+            jxy132330_Jun_Yu_BigNumber_5[] result = sqrtRemNormalized(normalized, n);
+            if (c == 1) {
+                return result;
+            }
+
+            // floor(floor(sqrt(this * c ^ 2)) / c) = floor(sqrt(this))
+            jxy132330_Jun_Yu_BigNumber_5 root = new jxy132330_Jun_Yu_BigNumber_5(base);
+            result[0].divideByInt(c, root);
+            return new jxy132330_Jun_Yu_BigNumber_5[]{root, this.subtract(root.square())};
+        } finally {
+            OperationProbe.finish(probe);
+        }
+    }
+
+    /**
+     * Karatsuba square root of a normalized number.
+     * With a = a3 * b ^ 3 + a2 * b ^ 2 + a1 * b + a0 where b = base ^ l,
+     * (s', r') = sqrtRem(a3 * b + a2), (q, u) = divRem(r' * b + a1, 2 * s'),
+     * then s = s' * b + q and r = u * b + a0 - q ^ 2, corrected if r is negative
+     *
+     * @param a non negative, base ^ (2n) / 4 <= a < base ^ (2n)
+     * @param n half of the number of digits
+     * @return array of root and remainder
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5[] sqrtRemNormalized(jxy132330_Jun_Yu_BigNumber_5 a, int n) {
+        int base = a.base;
+        if (n <= 2) {
+            // at most 4 digits, less than 2 ^ 60, the root from double is off by at most one
+            long value = 0;
+            for (int i = a.numDigits - 1; i >= 0; i--) {
+                value = value * base + a.digits[i];
+            }
+            long root = (long) Math.sqrt((double) value);
+            while (root * root > value) {
+                root--;
+            }
+            while ((root + 1) * (root + 1) <= value) {
+                root++;
+            }
+            return new jxy132330_Jun_Yu_BigNumber_5[]{fromInt(root, base), fromInt(value - root * root, base)};
+        }
+
+        int l = n / 2;
+        int h = n - l;
+
+        // the top 2h digits are normalized as well
+        jxy132330_Jun_Yu_BigNumber_5[] high = sqrtRemNormalized(a.sliceDigits(2 * l, 2 * n), h);
+
+        MutableBigNumber numerator = new MutableBigNumber(base, l + high[1].numDigits + 1);
+        numerator.addTo(a.sliceDigits(l, 2 * l)).addShifted(high[1], l);
+        jxy132330_Jun_Yu_BigNumber_5[] qu = dividePositive(numerator.takeBigNumber(), high[0].multiply(2));
+        jxy132330_Jun_Yu_BigNumber_5 q = qu[0];
+
+        MutableBigNumber root = new MutableBigNumber(base, n + 1);
+        root.addTo(q).addShifted(high[0], l);
+        MutableBigNumber remainder = new MutableBigNumber(base, n + l + 2);
+        remainder.addTo(a.lowerDigits(l)).addShifted(qu[1], l).subtractFrom(q.square());
+
+        // at most once for a normalized number, r += 2s - 1, s -= 1
+        if (remainder.isNegative()) {
+            jxy132330_Jun_Yu_BigNumber_5 one = fromInt(1, base);
+            while (remainder.isNegative()) {
+                remainder.addTo(root);
+                root.subtractFrom(one);
+                remainder.addTo(root);
+            }
+        }
+        return new jxy132330_Jun_Yu_BigNumber_5[]{root.takeBigNumber(), remainder.takeBigNumber()};
+    }
+
+    /**
+     * Find the maximum power of a number that the program can calculate in 15 secs,
+     * using repeated squaring. From offHeapThreshold digits the squares continue in mapped off heap numbers.
+     *
+     * @return very big number
+     */
+    public jxy132330_Jun_Yu_BigNumber_5 maximumPowerIn15Secs() {
+        long startTime = System.currentTimeMillis();
+        long currentTime = startTime + 1;
+        long limit = 15 * 1000;
+
+        jxy132330_Jun_Yu_BigNumber_5 temp = new jxy132330_Jun_Yu_BigNumber_5(this);
+        jxy132330_Jun_Yu_BigNumber_5 result = temp;
+
+        while ((currentTime - startTime) <= limit) {
+            if (temp.numDigits >= offHeapThreshold) {
+                return maximumPowerOffHeap(temp, startTime + limit);
+            }
+            result = temp;
+            temp = temp.square();
+            currentTime = System.currentTimeMillis();
+        }
+
+        return result;
+    }
+
+    /**
+     * The rest of maximumPowerIn15Secs in mapped off heap numbers. The squaring also stops
+     * before a square too long to be copied back to the heap
+     *
+     * @param temp     current square
+     * @param deadline time in milliseconds after which the last square is dropped
+     * @return the last square finished in time, copied back to the heap
+     */
+    private static jxy132330_Jun_Yu_BigNumber_5 maximumPowerOffHeap(jxy132330_Jun_Yu_BigNumber_5 temp,
+                                                                   long deadline) {
+        long heapDigits = Math.min(Integer.MAX_VALUE - 8, Runtime.getRuntime().maxMemory() / 8);
+        OffHeapBigNumber result = null;
+        OffHeapBigNumber square = null;
+        try {
+            result = OffHeapBigNumber.of(temp, true);
+            while (2 * result.getNumDigit() <= heapDigits) {
+                square = result.square();
+                if (System.currentTimeMillis() > deadline) {
+                    break;
+                }
+                result.close();
+                result = square;
+                square = null;
+            }
+            return result.toBigNumber();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (result != null) {
+                result.close();
+            }
+            if (square != null) {
+                square.close();
+            }
         }
-
-        return result;
     }
 
     /**
-     * This big number multiplied with a big number
+     * Product of a list of big numbers, multiplied as a balanced tree,
+     * so that both operands of every multiplication have about the same length
      *
-     * @param other big number
-     * @return big number product
+     * @param factors big numbers, converted to the base of the longest factor if their bases differ
+     * @return product of all factors, 1 in the specified base if there is none
      */
-    public jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 other) {
-        if (other == null) {
-            return this;
-        }
-
-        if (this == other) {
-            if (this.isNegative()) {
-                this.negate();
-                jxy132330_Jun_Yu_BigNumber_5 temp = this.multiply(other);
-                this.negate();
-                return temp;
-            }
-        }
-
-        if (this.base != other.getBase()) {
-            throw new NumberFormatException("Base not the same");
+    public static jxy132330_Jun_Yu_BigNumber_5 product(List<jxy132330_Jun_Yu_BigNumber_5> factors) {
+        if (factors == null) {
+            throw new IllegalArgumentException("factors is null");
         }
-
-        // a * b = - (-a) * b
-        if (this.isNegative()) {
-            this.negate();
-            jxy132330_Jun_Yu_BigNumber_5 temp = this.multiply(other);
-            temp.negate();
-            this.negate();
-            return temp;
+        if (factors.isEmpty()) {
+            return fromInt(1, specifiedBase);
         }
 
-        // a * b = - a * (-b)
-        if (other.isNegative()) {
-            other.negate();
-            jxy132330_Jun_Yu_BigNumber_5 temp = this.multiply(other);
-            temp.negate();
-            other.negate();
-            return temp;
+        jxy132330_Jun_Yu_BigNumber_5[] array = factors.toArray(new jxy132330_Jun_Yu_BigNumber_5[factors.size()]);
+        jxy132330_Jun_Yu_BigNumber_5 longest = array[0];
+        for (jxy132330_Jun_Yu_BigNumber_5 factor : array) {
+            if (factor.numDigits > longest.numDigits) {
+                longest = factor;
+            }
         }
-
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
-
-        jxy132330_Jun_Yu_BigNumber_5 left = this;
-        jxy132330_Jun_Yu_BigNumber_5 right = other;
-        int digit2;
-
-        // To reduce running time, the right operand should be the one with less digit list
-        if (this.getDigitList().size() < other.getDigitList().size()) {
-            jxy132330_Jun_Yu_BigNumber_5 swap = left;
-            left = right;
-            right = swap;
+        for (int i = 0; i < array.length; i++) {
+            if (array[i].base != longest.base) {
+                array[i] = array[i].toBase(longest.base);
+            }
         }
+        return product(array);
+    }
 
-        // Resemble to the human steps of calculate the product of two number,
-        // first get one digit of other operand, then multiply with this,
-        // if other has more digit, multiply the previous with base
-        // and add with the product of new digit and this
-        Iterator<Integer> itor2 = right.digitDescendingIterator();
-        while (itor2.hasNext()) {
-            digit2 = itor2.next();
-
-            jxy132330_Jun_Yu_BigNumber_5 temp = left.multiply(digit2);
-            //System.out.println("D " + temp.numToStr());
-            result = result.add(temp);
+    /**
+     * Product of integers in the specified base, consecutive values are multiplied in long
+     * as long as they do not overflow, then the packed values are multiplied as a balanced tree
+     *
+     * @param values integers
+     * @return product of all values, 1 if there is none
+     */
+    public static jxy132330_Jun_Yu_BigNumber_5 product(long[] values) {
+        int base = specifiedBase;
+        ArrayList<jxy132330_Jun_Yu_BigNumber_5> leaves = new ArrayList<jxy132330_Jun_Yu_BigNumber_5>();
+        boolean negative = false;
+        long packed = 1;
+        for (long value : values) {
+            if (value == 0) {
+                return new jxy132330_Jun_Yu_BigNumber_5(base);
+            }
+            negative ^= value < 0;
 
-            if (itor2.hasNext()) {
-                // multiplied by base
-                // add one node at the head of digitList with value 0
-                result.shiftByBase(1);
+            long magnitude = Math.abs(value);
+            if (magnitude < 0) {
+                // Long.MIN_VALUE, that is 2 ^ 62 * 2
+                leaves.add(fromInt(1L << 62, base));
+                magnitude = 2;
+            }
+            if (packed <= Long.MAX_VALUE / magnitude) {
+                packed *= magnitude;
+            } else {
+                leaves.add(fromInt(packed, base));
+                packed = magnitude;
             }
         }
+        leaves.add(fromInt(packed, base));
 
+        jxy132330_Jun_Yu_BigNumber_5 result = product(leaves.toArray(new jxy132330_Jun_Yu_BigNumber_5[leaves.size()]));
+        result.negative = negative && !result.isZero();
         return result;
     }
 
     /**
-     * Big number divided by integer
+     * Product tree of factors, on the fork/join pool if they are long enough together
      *
-     * @param divisor integer
-     * @param result  for output the result of division, you have to initialize it in caller before calling
-     * @return remnant
+     * @param factors big numbers of the same base, not empty
+     * @return product of all factors, never one of factors itself
      */
-    public int divideByInt(int divisor, jxy132330_Jun_Yu_BigNumber_5 result) {
-        if (divisor == 0) {
-            throw new IllegalArgumentException("Argument 'divisor' is 0");
+    private static jxy132330_Jun_Yu_BigNumber_5 product(jxy132330_Jun_Yu_BigNumber_5[] factors) {
+        if (factors.length == 1) {
+            return new jxy132330_Jun_Yu_BigNumber_5(factors[0]);
         }
 
-        // for abs of divisor < base
-        // for convenience, divisor will be converted to its absolute
-        boolean isResultNegative;
-
-        isResultNegative = (divisor < 0) ^ (this.isNegative());
+        // prefix sums of lengths, the length of a product is about the sum of lengths of its factors
+        long[] lengths = new long[factors.length + 1];
+        for (int i = 0; i < factors.length; i++) {
+            lengths[i + 1] = lengths[i] + factors[i].numDigits;
+        }
 
-        if (this.isZero()) {
-            isResultNegative = false;
+        OperationProbe probe = OperationProbe.start(Operation.PRODUCT, factors[0].base,
+                (int) Math.min(lengths[factors.length], Integer.MAX_VALUE), 0);
+        try {
+            ProductTask task = new ProductTask(factors, lengths, 0, factors.length);
+            if (isParallel((int) Math.min(lengths[factors.length] / 2, Integer.MAX_VALUE))
+                    && !inParallelPool()) {
+                return parallelPool().invoke(task);
+            }
+            return task.compute();
+        } finally {
+            OperationProbe.finish(probe);
         }
+    }
 
-        divisor = Math.abs(divisor);
+    /**
+     * Product of factors[from, to), the halves are forked when each is long enough for parallel multiplication
+     */
+    private static class ProductTask extends RecursiveTask<jxy132330_Jun_Yu_BigNumber_5> {
 
-        if (Math.abs(divisor) >= this.base) {
-            // big divisor
-            StringBuffer buffer = new StringBuffer();
+        private static final long serialVersionUID = 1L;
 
-            String str = this.absoluteNumToStr();
-            int remnant = strDivideByInt(str, divisor, buffer);
-            jxy132330_Jun_Yu_BigNumber_5 temp = new jxy132330_Jun_Yu_BigNumber_5();
-            temp.strToNum(buffer.toString());
-            result.swapBigNumbers(temp);
+        private final jxy132330_Jun_Yu_BigNumber_5[] factors;
+        private final long[] lengths;
+        private final int from;
+        private final int to;
 
-            if (isResultNegative) {
-                result.negative = true;
-            }
-            return remnant;
+        ProductTask(jxy132330_Jun_Yu_BigNumber_5[] factors, long[] lengths, int from, int to) {
+            this.factors = factors;
+            this.lengths = lengths;
+            this.from = from;
+            this.to = to;
         }
 
+        @Override
+        protected jxy132330_Jun_Yu_BigNumber_5 compute() {
+            if (to - from == 1) {
+                return factors[from];
+            }
 
-        boolean thisNeedNegateAtLast = false;
-        if (this.isNegative()) {
-            thisNeedNegateAtLast = true;
-            this.negate();
+            int middle = (from + to) >>> 1;
+            ProductTask left = new ProductTask(factors, lengths, from, middle);
+            ProductTask right = new ProductTask(factors, lengths, middle, to);
+            long shorter = Math.min(lengths[middle] - lengths[from], lengths[to] - lengths[middle]);
+            if (isParallel((int) Math.min(shorter, Integer.MAX_VALUE)) && inParallelPool()) {
+                right.fork();
+                jxy132330_Jun_Yu_BigNumber_5 leftProduct = left.compute();
+                return multiply(leftProduct, right.join());
+            }
+            return multiply(left.compute(), right.compute());
         }
 
-        int newDigit;
-        int remnant = 0;
-
-        for (Iterator<Integer> itor = this.digitDescendingIterator(); itor.hasNext(); ) {
-            int digit = itor.next();
-            int temp = (digit + remnant * this.base);
-            newDigit = temp / divisor;
-            remnant = temp % divisor;
-
-            result.addFirstDigit(newDigit);
+        /**
+         * Signed product through the kernels, not the public multiply,
+         * so that the nodes of the tree are not recorded as operations of their own
+         */
+        private static jxy132330_Jun_Yu_BigNumber_5 multiply(jxy132330_Jun_Yu_BigNumber_5 a,
+                                                             jxy132330_Jun_Yu_BigNumber_5 b) {
+            jxy132330_Jun_Yu_BigNumber_5 result = a == b ? squarePositive(a) : multiplyPositive(a, b);
+            result.negative = (a.negative ^ b.negative) && !result.isZero();
+            return result;
         }
+    }
 
-        if (thisNeedNegateAtLast) {
-            this.negate();
+    /**
+     * Factorial in the specified base, by the product tree of 1..n
+     *
+     * @param n non negative integer
+     * @return n!
+     */
+    public static jxy132330_Jun_Yu_BigNumber_5 factorial(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Argument 'n' is negative");
         }
 
-        if (isResultNegative) {
-            result.negate();
+        long[] values = new long[Math.max(n - 1, 0)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 2;
         }
-        result.trimTopZeros();
-
-        return remnant;
+        return product(values);
     }
 
     /**
-     * Big number divided by big number
-     * Reference: <a href="http://courses.cs.vt.edu/~cs1104/BuildingBlocks/divide.030.html">Digit Shift Division</a>
-     * Any base algorithm can derive from this algorithm
+     * Binomial coefficient in the specified base, (n - k + 1) * ... * n divided by k!,
+     * both by the product tree
      *
-     * @param divisor big number
-     * @return result
+     * @param n non negative integer
+     * @param k integer
+     * @return n choose k, 0 if k is out of [0, n]
      */
-    public jxy132330_Jun_Yu_BigNumber_5 divide(jxy132330_Jun_Yu_BigNumber_5 divisor) {
-        if (divisor == null || divisor.isZero()) {
-            throw new IllegalArgumentException("divisor is null or zero");
+    public static jxy132330_Jun_Yu_BigNumber_5 binomial(int n, int k) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Argument 'n' is negative");
         }
-
-//        System.out.println("this");
-//        System.out.println(this.getDigitList().size());
-//        this.printList();
-//        System.out.println("dive");
-//        System.out.println(divisor.getDigitList().size());
-//        divisor.printList();
-
-        if (this == divisor) {
-            return new jxy132330_Jun_Yu_BigNumber_5("1");
+        if (k < 0 || k > n) {
+            return new jxy132330_Jun_Yu_BigNumber_5(specifiedBase);
         }
 
-        if (this.isZero()) {
-            return new jxy132330_Jun_Yu_BigNumber_5();
+        k = Math.min(k, n - k);
+        long[] values = new long[k];
+        for (int i = 0; i < k; i++) {
+            values[i] = n - i;
         }
+        // the division is exact
+        return product(values).divide(factorial(k));
+    }
 
-        if (this.isNegative()) {
-            this.negate();
-
-            jxy132330_Jun_Yu_BigNumber_5 temp = this.divide(divisor);
-            temp.negate();
+    /**
+     * Helper method, used to print (var, jxy132330_Jun_Yu_BigNumber_5) in the map
+     *
+     * @param varMap the Big Number correspondent to var name
+     */
+    public static void printMap(HashMap<String, jxy132330_Jun_Yu_BigNumber_5> varMap) {
+        for (Map.Entry<String, jxy132330_Jun_Yu_BigNumber_5> pair : varMap.entrySet()) {
+            System.out.println(pair.getKey() + " = " + pair.getValue().numToStr());
+        }
+    }
 
-            this.negate();
-            return temp;
+    /**
+     * A program of executeLoop compiled once, so that the lines are not parsed again on every visit.
+     * Line i becomes instruction i, variables are resolved to slots of a register file,
+     * number literals are parsed in advance and jump targets are kept as line numbers
+     */
+    static class LoopProgram {
+
+        static final int OP_PRINT = 0;
+        static final int OP_JUMP = 1;
+        static final int OP_CONSTANT = 2;
+        static final int OP_ADD = 3;
+        static final int OP_SUBTRACT = 4;
+        static final int OP_MULTIPLY = 5;
+        static final int OP_DIVIDE = 6;
+        static final int OP_POWER = 7;
+        static final int OP_MOD_POW = 8;
+        static final int OP_REMAINDER = 9;
+        static final int OP_SQRT = 10;
+        static final int OP_MAXIMUM_POWER = 11;
+        static final int OP_FACTORIAL = 12;
+        static final int OP_BINOMIAL = 13;
+        // prints the message and stops, for a line that is not valid
+        static final int OP_INVALID = 14;
+        // throws NumberFormatException with the message, for a number that does not parse,
+        // only when the line is reached, like the lines were parsed on every visit before
+        static final int OP_FAIL = 15;
+
+        final int[] opcodes;
+        // slot assigned, or the line to jump to
+        final int[] destinations;
+        final int[] leftOperands;
+        final int[] rightOperands;
+        // the modulus slot of OP_MOD_POW
+        final int[] extraOperands;
+        final jxy132330_Jun_Yu_BigNumber_5[] constants;
+        final String[] messages;
+        // variable name of every slot
+        String[] slotNames;
+
+        private LoopProgram(int length) {
+            this.opcodes = new int[length];
+            this.destinations = new int[length];
+            this.leftOperands = new int[length];
+            this.rightOperands = new int[length];
+            this.extraOperands = new int[length];
+            this.constants = new jxy132330_Jun_Yu_BigNumber_5[length];
+            this.messages = new String[length];
         }
 
-        if (divisor.isNegative()) {
-            divisor.negate();
+        /**
+         * Compile lines of the program, exprTable[0] unused
+         *
+         * @param exprTable expr of every line number
+         * @return compiled program
+         */
+        static LoopProgram compile(ArrayList<String> exprTable) {
+            HashMap<String, Integer> slots = new HashMap<String, Integer>();
+            ArrayList<String> names = new ArrayList<String>();
+            int length = exprTable.size();
+            LoopProgram program = new LoopProgram(length);
+            int[] opcodes = program.opcodes;
+            String[] messages = program.messages;
+
+            for (int line = 0; line < length; line++) {
+                String expr = exprTable.get(line);
+
+                // first handle ? jump
+                if (expr.contains("?")) {
+                    String[] jumpParams = expr.split("\\?");
+                    if (jumpParams.length != 2) {
+                        opcodes[line] = OP_INVALID;
+                        messages[line] = "Invalid input: wrong jump";
+                        continue;
+                    }
 
-            jxy132330_Jun_Yu_BigNumber_5 temp = this.divide(divisor);
-            temp.negate();
+                    try {
+                        program.destinations[line] = Integer.parseInt(jumpParams[1]);
+                    } catch (NumberFormatException e) {
+                        opcodes[line] = OP_FAIL;
+                        messages[line] = e.getMessage();
+                        continue;
+                    }
+                    opcodes[line] = OP_JUMP;
+                    program.leftOperands[line] = slot(jumpParams[0], slots, names);
+                    continue;
+                }
 
-            divisor.negate();
-            return temp;
-        }
+                // handle expr with or without = and except ?
+                String[] exprParams = expr.split("=");
+                if (exprParams.length == 1) {
+                    // only var name, then print it
+                    opcodes[line] = OP_PRINT;
+                    program.leftOperands[line] = slot(exprParams[0], slots, names);
+                    continue;
+                }
+                if (exprParams.length != 2) {
+                    opcodes[line] = OP_INVALID;
+                    messages[line] = "Invalid input: unknown expression" + expr;
+                    continue;
+                }
 
-        // then dividend and divisor are both positive
-        if (this.compareTo(divisor) < 0) {
-            return new jxy132330_Jun_Yu_BigNumber_5();
-        }
+                String right = exprParams[1];
+                program.destinations[line] = slot(exprParams[0], slots, names);
+                if (right.charAt(0) <= '9' && right.charAt(0) >= '1') {
+                    // it's an assignment of number to var
+                    jxy132330_Jun_Yu_BigNumber_5 big = new jxy132330_Jun_Yu_BigNumber_5();
+                    try {
+                        big.strToNum(right);
+                    } catch (NumberFormatException e) {
+                        opcodes[line] = OP_FAIL;
+                        messages[line] = e.getMessage();
+                        continue;
+                    }
+                    opcodes[line] = OP_CONSTANT;
+                    program.constants[line] = big;
+                    continue;
+                }
 
-        if (this.equals(divisor)) {
-            return new jxy132330_Jun_Yu_BigNumber_5("1");
-        }
+                // it's a arithmetic expression, k point to the index of operator
+                int k;
+                for (k = 0; k < right.length(); k++) {
+                    char token = right.charAt(k);
+                    if (token == '+' || token == '-' || token == '*' || token == '/' || token == '^' || token == '%' || token == '~' || token == ')'
+                            || token == '!' || token == '#') {
+                        break;
+                    }
+                }
 
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5();
-        jxy132330_Jun_Yu_BigNumber_5 p = new jxy132330_Jun_Yu_BigNumber_5(this);
-        jxy132330_Jun_Yu_BigNumber_5 q = new jxy132330_Jun_Yu_BigNumber_5(divisor);
-        jxy132330_Jun_Yu_BigNumber_5 temp;// = new jxy132330_Jun_Yu_BigNumber_5("1");
+                // operator at last char or not contained in expr
+                if (k == right.length()) {
+                    opcodes[line] = OP_INVALID;
+                    messages[line] = "Invalid input: wrong arithmetic expression";
+                    continue;
+                }
 
-        while (p.compareTo(q) >= 0) {
-            int counter = 0;
-            while (p.compareTo(q.shiftLeft(counter)) >= 0) {
-                counter++;
+                String rightOperand = right.substring(k + 1);
+                program.leftOperands[line] = slot(right.substring(0, k), slots, names);
+                switch (right.charAt(k)) {
+                    case '+':
+                        opcodes[line] = OP_ADD;
+                        break;
+                    case '-':
+                        opcodes[line] = OP_SUBTRACT;
+                        break;
+                    case '*':
+                        opcodes[line] = OP_MULTIPLY;
+                        break;
+                    case '/':
+                        opcodes[line] = OP_DIVIDE;
+                        break;
+                    case '^':
+                        if (rightOperand.indexOf('%') >= 0) {
+                            // three operands form, z=a^e%m
+                            String[] modParams = rightOperand.split("%", -1);
+                            if (modParams.length != 2 || modParams[0].isEmpty() || modParams[1].isEmpty()) {
+                                opcodes[line] = OP_INVALID;
+                                messages[line] = "Invalid input: wrong arithmetic expression";
+                                continue;
+                            }
+                            opcodes[line] = OP_MOD_POW;
+                            rightOperand = modParams[0];
+                            program.extraOperands[line] = slot(modParams[1], slots, names);
+                        } else {
+                            opcodes[line] = OP_POWER;
+                        }
+                        break;
+                    case '%':
+                        opcodes[line] = OP_REMAINDER;
+                        break;
+                    case '~':
+                        opcodes[line] = OP_SQRT;
+                        break;
+                    case ')':
+                        opcodes[line] = OP_MAXIMUM_POWER;
+                        break;
+                    case '!':
+                        opcodes[line] = OP_FACTORIAL;
+                        break;
+                    default:
+                        opcodes[line] = OP_BINOMIAL;
+                        break;
+                }
+                program.rightOperands[line] = slot(rightOperand, slots, names);
             }
 
-            Iterator<Integer> itor1 = p.digitDescendingIterator();
-            Iterator<Integer> itor2 = q.digitDescendingIterator();
-            int firstNum = 0, secondNum = 0, delimiter = 1;
-            int quo = 1;
+            program.slotNames = names.toArray(new String[names.size()]);
+            return program;
+        }
 
-            if (q.getDigitList().size() + (counter - 1) == p.getDigitList().size()) {
-                firstNum = itor1.next();
-                delimiter = itor2.next();
-                quo = firstNum / delimiter;
-            } else {
-                firstNum = itor1.next();
-                secondNum = itor1.next();
-                delimiter = itor2.next();
-                quo = (firstNum * this.base + secondNum) / delimiter;
-            }
-
-            // to simplify the division above, minus 2 from quo
-            // because 234 / 156 seems to 2, if applied the equation above, but actually 1
-            // 3565 / 143 seems 3, but actually 2, round to 1
-
-            //quo = p.divide(q.shiftLeft(counter - 1)).numToInt();
-
-            jxy132330_Jun_Yu_BigNumber_5 tent = q.multiply(quo).shiftLeft(counter - 1);
-            while (p.compareTo(tent) < 0) {
-                jxy132330_Jun_Yu_BigNumber_5 diff = tent.subtract(p);
-
-                Iterator<Integer> itor21 = diff.digitDescendingIterator();
-                Iterator<Integer> itor22 = q.digitDescendingIterator();
-                int firstNum2 = 0, secondNum2 = 0, delimiter2 = 1;
-                int quo2 = 1;
-
-                if (q.getDigitList().size() + (counter - 1) == diff.getDigitList().size()) {
-                    firstNum2 = itor21.next();
-                    delimiter2 = itor22.next();
-//                    quo2 = firstNum2 / delimiter2;
-//                    if (firstNum < delimiter) {
-//                        quo2++;
-//                    }
-                    quo2 = Double.valueOf(Math.ceil(((double)(firstNum2)) / ((double)delimiter2))).intValue();
-                } else if (q.getDigitList().size() + (counter - 1) < diff.getDigitList().size()) {
-                    // diff has one more digit than q
-                    firstNum2 = itor21.next();
-                    secondNum2 = itor21.next();
-                    delimiter2 = itor22.next();
-                    //quo2 = (firstNum2 * this.base + secondNum2) / delimiter2;
-                    quo2 = Double.valueOf(Math.ceil(((double)(firstNum2 * this.base + secondNum2)) / ((double)delimiter2))).intValue();
+        private static int slot(String name, HashMap<String, Integer> slots, ArrayList<String> names) {
+            Integer slot = slots.get(name);
+            if (slot == null) {
+                slot = names.size();
+                slots.put(name, slot);
+                names.add(name);
+            }
+            return slot;
+        }
 
-                } else {
-                    // diff has one less digit than q
-                    quo2 = 1;
+        /**
+         * Execute from line 1 until the line number runs out of the program
+         */
+        void run() {
+            jxy132330_Jun_Yu_BigNumber_5[] registers = new jxy132330_Jun_Yu_BigNumber_5[slotNames.length];
+            int length = opcodes.length;
+            int line = 1;
+            while (line < length) {
+                jxy132330_Jun_Yu_BigNumber_5 left = registers[leftOperands[line]];
+                jxy132330_Jun_Yu_BigNumber_5 right = registers[rightOperands[line]];
+                int destination = destinations[line];
+
+                switch (opcodes[line]) {
+                    case OP_JUMP:
+                        // if var value is not 0, then go to line number, else go to next line
+                        line = left.isZero() ? line + 1 : destination;
+                        continue;
+                    case OP_PRINT:
+                        System.out.println(left.numToStr());
+                        break;
+                    case OP_CONSTANT:
+                        // operations never modify their operands, so the constant is shared
+                        registers[destination] = constants[line];
+                        break;
+                    case OP_ADD:
+                        registers[destination] = left.add(right);
+                        break;
+                    case OP_SUBTRACT:
+                        registers[destination] = left.subtract(right);
+                        break;
+                    case OP_MULTIPLY:
+                        registers[destination] = left.multiply(right);
+                        break;
+                    case OP_DIVIDE:
+                        registers[destination] = divide(left, right);
+                        break;
+                    case OP_POWER:
+                        registers[destination] = left.power(right);
+                        break;
+                    case OP_MOD_POW:
+                        registers[destination] = left.modPow(right, registers[extraOperands[line]]);
+                        break;
+                    case OP_REMAINDER:
+                        registers[destination] = remainder(left, right);
+                        break;
+                    case OP_SQRT:
+                        registers[destination] = left.sqrt();
+                        break;
+                    case OP_MAXIMUM_POWER:
+                        registers[destination] = left.maximumPowerIn15Secs();
+                        break;
+                    case OP_FACTORIAL:
+                        registers[destination] = factorial(left.numToInt());
+                        break;
+                    case OP_BINOMIAL:
+                        registers[destination] = binomial(left.numToInt(), right.numToInt());
+                        break;
+                    case OP_FAIL:
+                        fail(messages[line]);
+                        break;
+                    default:
+                        System.out.println(messages[line]);
+                        return;
                 }
 
-                quo = quo - quo2;
-
-                tent = q.multiply(quo).shiftLeft(counter - 1);
+                // next line
+                line++;
             }
+        }
 
+        /**
+         * Failure of a number of a line that did not parse
+         */
+        static void fail(String message) {
+            throw new NumberFormatException(message);
+        }
 
-            temp = new jxy132330_Jun_Yu_BigNumber_5("" + quo);
-
-            result = result.add(temp.shiftLeft(counter - 1));
-            //System.out.println(result.getDigitList().size());
-            //result.printList();
-//            jxy132330_Jun_Yu_BigNumber_5 a = q.multiply(quo);
-//            a.printList();
-//            System.out.println(a.numToStr());
-            //            jxy132330_Jun_Yu_BigNumber_5 b = a.shiftLeft(counter - 1);
-            //            b.printList();
-            //            System.out.println(b.numToStr());
-            p = p.subtract(tent);
-            //            p.printList();
-            //            System.out.println(p.numToStr());
+        /**
+         * Quotient of a / b, b has to fit in int
+         */
+        static jxy132330_Jun_Yu_BigNumber_5 divide(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            jxy132330_Jun_Yu_BigNumber_5 output = new jxy132330_Jun_Yu_BigNumber_5();
+            a.divideByInt(b.numToInt(), output);
+            return output;
         }
 
-        return result;
+        /**
+         * Remnant of a / b, b has to fit in int
+         */
+        static jxy132330_Jun_Yu_BigNumber_5 remainder(jxy132330_Jun_Yu_BigNumber_5 a, jxy132330_Jun_Yu_BigNumber_5 b) {
+            jxy132330_Jun_Yu_BigNumber_5 output = new jxy132330_Jun_Yu_BigNumber_5();
+            int temp = a.divideByInt(b.numToInt(), output);
+            jxy132330_Jun_Yu_BigNumber_5 remnant = new jxy132330_Jun_Yu_BigNumber_5();
+            remnant.strToNum("" + temp);
+            return remnant;
+        }
     }
 
     /**
-     * Power of big number
-     *
-     * @param exp exponent
-     * @return this ^ other
+     * Compiles a LoopProgram to a hidden class, whose static method holds the variables as locals
+     * and the jumps as branches, so that the JIT of the JVM optimizes across lines.
+     * The class file is written by hand in version 49, which needs no stack map frames
+     * Reference: <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class file format</a>
      */
-    public jxy132330_Jun_Yu_BigNumber_5 power(jxy132330_Jun_Yu_BigNumber_5 exp) {
-        if (exp == null || exp.isNegative()) {
-            return this;
+    static class LoopCompiler {
+
+        private static final String NUMBER_CLASS = "jxy132330_Jun_Yu_BigNumber_5";
+        private static final String NUMBER = "L" + NUMBER_CLASS + ";";
+        private static final String PROGRAM_CLASS = NUMBER_CLASS + "$LoopProgram";
+        private static final String RUN_DESCRIPTOR = "([" + NUMBER + "[Ljava/lang/String;)V";
+        // locals 0 and 1 are the constants and the messages, variables follow
+        private static final int FIRST_VARIABLE = 2;
+
+        private static final int ACONST_NULL = 0x01;
+        private static final int ICONST_0 = 0x03;
+        private static final int BIPUSH = 0x10;
+        private static final int SIPUSH = 0x11;
+        private static final int LDC_W = 0x13;
+        private static final int ALOAD = 0x19;
+        private static final int AALOAD = 0x32;
+        private static final int ASTORE = 0x3a;
+        private static final int IFEQ = 0x99;
+        private static final int GOTO = 0xa7;
+        private static final int RETURN = 0xb1;
+        private static final int GETSTATIC = 0xb2;
+        private static final int INVOKEVIRTUAL = 0xb6;
+        private static final int INVOKESTATIC = 0xb8;
+        private static final int WIDE = 0xc4;
+
+        private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+        private final DataOutputStream pool = new DataOutputStream(poolBytes);
+        private final HashMap<String, Integer> poolIndices = new HashMap<String, Integer>();
+        private int poolCount = 1;
+
+        private byte[] code = new byte[256];
+        private int codeLength;
+        // positions of branch offsets to patch, and the line they jump to, -1 for the end
+        private final ArrayList<int[]> branches = new ArrayList<int[]>();
+
+        /**
+         * Compile a program to a method handle of (constants, messages)
+         *
+         * @param program compiled program
+         * @return method handle, null if the program is not supported
+         */
+        static MethodHandle compile(LoopProgram program) {
+            try {
+                byte[] bytes = new LoopCompiler().generate(program);
+                if (bytes == null) {
+                    return null;
+                }
+                MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+                return lookup.findStatic(lookup.lookupClass(), "run", MethodType.methodType(void.class,
+                        jxy132330_Jun_Yu_BigNumber_5[].class, String[].class));
+            } catch (IOException e) {
+                return null;
+            } catch (IllegalAccessException e) {
+                return null;
+            } catch (NoSuchMethodException e) {
+                return null;
+            } catch (LinkageError e) {
+                return null;
+            }
         }
 
-        if (this.base != exp.getBase()) {
-            throw new NumberFormatException("Base not the same");
+        /**
+         * Compile and run a program, or interpret it if it is not supported
+         *
+         * @param program compiled program
+         */
+        static void run(LoopProgram program) {
+            MethodHandle handle = compile(program);
+            if (handle == null) {
+                program.run();
+                return;
+            }
+
+            try {
+                handle.invokeExact(program.constants, program.messages);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
         }
 
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this.base);
-        result.strToNum("1");
-        jxy132330_Jun_Yu_BigNumber_5 base = new jxy132330_Jun_Yu_BigNumber_5(this);
+        private byte[] generate(LoopProgram program) throws IOException {
+            int length = program.opcodes.length;
+            int maxLocals = FIRST_VARIABLE + program.slotNames.length;
+            if (maxLocals > 0xFFFF) {
+                return null;
+            }
 
-        jxy132330_Jun_Yu_BigNumber_5 expTemp = new jxy132330_Jun_Yu_BigNumber_5(exp);
-        //String expStr = exp.numToStr();
-        //StringBuffer buffer = new StringBuffer();
+            // every variable starts as null, as a variable not assigned yet
+            for (int slot = 0; slot < program.slotNames.length; slot++) {
+                emit(ACONST_NULL);
+                emitVariable(ASTORE, slot);
+            }
+            emitBranch(GOTO, length > 1 ? 1 : -1);
+
+            int[] lineOffsets = new int[length];
+            for (int line = 0; line < length; line++) {
+                lineOffsets[line] = codeLength;
+                int destination = program.destinations[line];
+                switch (program.opcodes[line]) {
+                    case LoopProgram.OP_JUMP:
+                        if (destination < 0) {
+                            return null;
+                        }
+                        emitVariable(ALOAD, program.leftOperands[line]);
+                        emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "isZero", "()Z");
+                        emitBranch(IFEQ, destination < length ? destination : -1);
+                        break;
+                    case LoopProgram.OP_PRINT:
+                        emitShort(GETSTATIC, fieldRef("java/lang/System", "out", "Ljava/io/PrintStream;"));
+                        emitVariable(ALOAD, program.leftOperands[line]);
+                        emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "numToStr", "()Ljava/lang/String;");
+                        emitInvoke(INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V");
+                        break;
+                    case LoopProgram.OP_CONSTANT:
+                        emitVariable(ALOAD, -2);
+                        emitInt(line);
+                        emit(AALOAD);
+                        emitVariable(ASTORE, destination);
+                        break;
+                    case LoopProgram.OP_INVALID:
+                        emitShort(GETSTATIC, fieldRef("java/lang/System", "out", "Ljava/io/PrintStream;"));
+                        emitVariable(ALOAD, -1);
+                        emitInt(line);
+                        emit(AALOAD);
+                        emitInvoke(INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V");
+                        emit(RETURN);
+                        break;
+                    case LoopProgram.OP_FAIL:
+                        emitVariable(ALOAD, -1);
+                        emitInt(line);
+                        emit(AALOAD);
+                        emitInvoke(INVOKESTATIC, PROGRAM_CLASS, "fail", "(Ljava/lang/String;)V");
+                        break;
+                    default:
+                        emitOperation(program, line);
+                        emitVariable(ASTORE, destination);
+                        break;
+                }
+            }
+            int end = codeLength;
+            emit(RETURN);
 
-        // example : 2^12 = 4^6 = 16^3 = 16 * (16^2) = 16 * 256
-        // this algorithm reduce the running time for power significantly
-        int i = 0;
-        while (!expTemp.isZero()) {
-            if (expTemp.isOdd()) {
-                result = result.multiply(base);
+            for (int[] branch : branches) {
+                int offset = (branch[1] < 0 ? end : lineOffsets[branch[1]]) - (branch[0] - 1);
+                if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                    return null;
+                }
+                code[branch[0]] = (byte) (offset >> 8);
+                code[branch[0] + 1] = (byte) offset;
+            }
+            if (codeLength > 0xFFFF) {
+                return null;
+            }
+
+            return writeClass(maxLocals);
+        }
 
+        /**
+         * Push the result of an arithmetic instruction
+         */
+        private void emitOperation(LoopProgram program, int line) throws IOException {
+            int left = program.leftOperands[line];
+            int right = program.rightOperands[line];
+            switch (program.opcodes[line]) {
+                case LoopProgram.OP_ADD:
+                    emitBinary(left, right, "add");
+                    break;
+                case LoopProgram.OP_SUBTRACT:
+                    emitBinary(left, right, "subtract");
+                    break;
+                case LoopProgram.OP_MULTIPLY:
+                    emitBinary(left, right, "multiply");
+                    break;
+                case LoopProgram.OP_POWER:
+                    emitBinary(left, right, "power");
+                    break;
+                case LoopProgram.OP_DIVIDE:
+                    emitVariable(ALOAD, left);
+                    emitVariable(ALOAD, right);
+                    emitInvoke(INVOKESTATIC, PROGRAM_CLASS, "divide", "(" + NUMBER + NUMBER + ")" + NUMBER);
+                    break;
+                case LoopProgram.OP_REMAINDER:
+                    emitVariable(ALOAD, left);
+                    emitVariable(ALOAD, right);
+                    emitInvoke(INVOKESTATIC, PROGRAM_CLASS, "remainder", "(" + NUMBER + NUMBER + ")" + NUMBER);
+                    break;
+                case LoopProgram.OP_MOD_POW:
+                    emitVariable(ALOAD, left);
+                    emitVariable(ALOAD, right);
+                    emitVariable(ALOAD, program.extraOperands[line]);
+                    emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "modPow", "(" + NUMBER + NUMBER + ")" + NUMBER);
+                    break;
+                case LoopProgram.OP_SQRT:
+                    emitVariable(ALOAD, left);
+                    emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "sqrt", "()" + NUMBER);
+                    break;
+                case LoopProgram.OP_MAXIMUM_POWER:
+                    emitVariable(ALOAD, left);
+                    emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "maximumPowerIn15Secs", "()" + NUMBER);
+                    break;
+                case LoopProgram.OP_FACTORIAL:
+                    emitVariable(ALOAD, left);
+                    emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "numToInt", "()I");
+                    emitInvoke(INVOKESTATIC, NUMBER_CLASS, "factorial", "(I)" + NUMBER);
+                    break;
+                default:
+                    emitVariable(ALOAD, left);
+                    emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "numToInt", "()I");
+                    emitVariable(ALOAD, right);
+                    emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, "numToInt", "()I");
+                    emitInvoke(INVOKESTATIC, NUMBER_CLASS, "binomial", "(II)" + NUMBER);
+                    break;
             }
-            // exp /= 2
-            jxy132330_Jun_Yu_BigNumber_5 temp = new jxy132330_Jun_Yu_BigNumber_5();
-            expTemp.divideByInt(2, temp);
-            expTemp = temp;
-            // square the base
-            base = base.multiply(base);
-            expTemp.trimTopZeros();
-            base.trimTopZeros();
-//            System.out.println("i = " + i++);
-//            System.out.println("exp = " + expTemp.numToStr());
-//            System.out.println("result = " + result.numToStr());
-//            System.out.println("base = " + base.numToStr());
         }
 
-        return result;
-    }
+        private void emitBinary(int left, int right, String method) throws IOException {
+            emitVariable(ALOAD, left);
+            emitVariable(ALOAD, right);
+            emitInvoke(INVOKEVIRTUAL, NUMBER_CLASS, method, "(" + NUMBER + ")" + NUMBER);
+        }
 
-    /**
-     * The estimation of the number that close to this, usually the half length of this
-     *
-     * @return estimation of sqrt
-     */
-    public jxy132330_Jun_Yu_BigNumber_5 closeToSqrt() {
-        jxy132330_Jun_Yu_BigNumber_5 result = new jxy132330_Jun_Yu_BigNumber_5(this);
-        int size = result.getDigitList().size();
-        if ((size & 1) == 0) {
-            // even
-            result = result.shiftRight(getNumDigit() / 2);
-            Iterator<Integer> itor = result.digitDescendingIterator();
-            int digit = itor.next();
-            result = result.shiftLeft(1);
-            result.addDigit((int) Math.sqrt(digit));
-        } else {
-            result = result.shiftRight(getNumDigit() / 2);
-            Iterator<Integer> itor = result.digitDescendingIterator();
-            int digit = itor.next();
-            result.addDigit((int) Math.sqrt(digit));
+        private void emit(int value) {
+            if (codeLength == code.length) {
+                code = Arrays.copyOf(code, code.length * 2);
+            }
+            code[codeLength++] = (byte) value;
         }
 
-        return result;
-    }
+        private void emitShort(int opcode, int value) {
+            emit(opcode);
+            emit(value >> 8);
+            emit(value);
+        }
 
-    /**
-     * Square root, Newton method (aka. Babylonian method)
-     * Reference: <a href="https://en.wikipedia.org/wiki/Methods_of_computing_square_roots">Newton's Method</a>
-     *
-     * @return sqrt of this
-     */
-    public jxy132330_Jun_Yu_BigNumber_5 sqrt() {
-        //System.out.println(this.numToStr());
-        //this.printList();
-        if (this.isNegative()) {
-            throw new ArithmeticException("Negative number can not sqrt");
+        /**
+         * Load or store a variable slot, -2 and -1 for the constants and the messages
+         */
+        private void emitVariable(int opcode, int slot) {
+            int local = FIRST_VARIABLE + slot;
+            if (local > 0xFF) {
+                emit(WIDE);
+                emitShort(opcode, local);
+            } else {
+                emit(opcode);
+                emit(local);
+            }
         }
 
-        jxy132330_Jun_Yu_BigNumber_5 x0 = this.closeToSqrt();
-        jxy132330_Jun_Yu_BigNumber_5 x1;
-        jxy132330_Jun_Yu_BigNumber_5 cmp;
+        private void emitInt(int value) throws IOException {
+            if (value <= 5) {
+                emit(ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                emit(BIPUSH);
+                emit(value);
+            } else if (value <= Short.MAX_VALUE) {
+                emitShort(SIPUSH, value);
+            } else {
+                emitShort(LDC_W, constant("I" + value, 3, value));
+            }
+        }
 
-        do {
-            //System.out.println("This size = " + this.numToStr().length());
-            //System.out.println(x0.numToStr());
-            //x0.printList();
+        private void emitInvoke(int opcode, String owner, String name, String descriptor) throws IOException {
+            emitShort(opcode, memberRef(10, owner, name, descriptor));
+        }
 
-            jxy132330_Jun_Yu_BigNumber_5 temp = this.divide(x0);
+        private void emitBranch(int opcode, int line) {
+            emit(opcode);
+            branches.add(new int[]{codeLength, line});
+            emit(0);
+            emit(0);
+        }
 
-            //System.out.println(temp.numToStr());
-            //temp.printList();
-            temp = temp.add(x0);
-            x1 = new jxy132330_Jun_Yu_BigNumber_5();
-            temp.divideByInt(2, x1);
-            cmp = x0;
-            x0 = x1;
-            //System.out.println("x_n-1 = " + cmp.numToStr());
-            //System.out.println("x_n   = " + x1.numToStr());
-        } while (!cmp.equals(x1));
+        private int utf8(String value) throws IOException {
+            Integer index = poolIndices.get("U" + value);
+            if (index == null) {
+                pool.writeByte(1);
+                pool.writeUTF(value);
+                index = poolCount++;
+                poolIndices.put("U" + value, index);
+            }
+            return index;
+        }
 
-        return x1;
-    }
+        private int classRef(String name) throws IOException {
+            int nameIndex = utf8(name);
+            return constant("C" + name, 7, nameIndex);
+        }
 
-    /**
-     * Find the maximum power of a number that the program can calculate in 15 secs,
-     * using repeated squaring.
-     *
-     * @return very big number
-     */
-    public jxy132330_Jun_Yu_BigNumber_5 maximumPowerIn15Secs() {
-        long startTime = System.currentTimeMillis();
-        long currentTime = startTime + 1;
-        long limit = 15 * 1000;
+        private int fieldRef(String owner, String name, String descriptor) throws IOException {
+            return memberRef(9, owner, name, descriptor);
+        }
 
-        jxy132330_Jun_Yu_BigNumber_5 temp = new jxy132330_Jun_Yu_BigNumber_5(this);
-        jxy132330_Jun_Yu_BigNumber_5 result = temp;
+        private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+            String key = tag + owner + "." + name + descriptor;
+            Integer index = poolIndices.get(key);
+            if (index == null) {
+                int ownerIndex = classRef(owner);
+                int nameIndex = utf8(name);
+                int descriptorIndex = utf8(descriptor);
+                int nameAndType = constant("N" + name + descriptor, 12, (nameIndex << 16) | descriptorIndex);
+                pool.writeByte(tag);
+                pool.writeShort(ownerIndex);
+                pool.writeShort(nameAndType);
+                index = poolCount++;
+                poolIndices.put(key, index);
+            }
+            return index;
+        }
 
-        while ((currentTime - startTime) <= limit) {
-            result = temp;
-            temp = temp.multiply(temp);
-            currentTime = System.currentTimeMillis();
+        /**
+         * Constant of one int payload, or two shorts for NameAndType
+         */
+        private int constant(String key, int tag, int value) throws IOException {
+            Integer index = poolIndices.get(key);
+            if (index == null) {
+                pool.writeByte(tag);
+                if (tag == 7) {
+                    pool.writeShort(value);
+                } else {
+                    pool.writeInt(value);
+                }
+                index = poolCount++;
+                poolIndices.put(key, index);
+            }
+            return index;
         }
 
-        return result;
-    }
+        private byte[] writeClass(int maxLocals) throws IOException {
+            int thisClass = classRef(NUMBER_CLASS + "$CompiledLoop");
+            int superClass = classRef("java/lang/Object");
+            int runName = utf8("run");
+            int runDescriptor = utf8(RUN_DESCRIPTOR);
+            int codeName = utf8("Code");
+            if (poolCount > 0xFFFF) {
+                return null;
+            }
 
-    /**
-     * Helper method, used to print (var, jxy132330_Jun_Yu_BigNumber_5) in the map
-     *
-     * @param varMap the Big Number correspondent to var name
-     */
-    public static void printMap(HashMap<String, jxy132330_Jun_Yu_BigNumber_5> varMap) {
-        for (Map.Entry<String, jxy132330_Jun_Yu_BigNumber_5> pair : varMap.entrySet()) {
-            System.out.println(pair.getKey() + " = " + pair.getValue().numToStr());
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(49);
+            out.writeShort(poolCount);
+            poolBytes.writeTo(out);
+            // public final super
+            out.writeShort(0x0031);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0);
+            out.writeShort(0);
+
+            // public static void run(jxy132330_Jun_Yu_BigNumber_5[] constants, String[] messages)
+            out.writeShort(1);
+            out.writeShort(0x0009);
+            out.writeShort(runName);
+            out.writeShort(runDescriptor);
+            out.writeShort(1);
+            out.writeShort(codeName);
+            out.writeInt(12 + codeLength);
+            out.writeShort(4);
+            out.writeShort(maxLocals);
+            out.writeInt(codeLength);
+            out.write(code, 0, codeLength);
+            out.writeShort(0);
+            out.writeShort(0);
+
+            out.writeShort(0);
+            return bytes.toByteArray();
         }
     }
 
@@ -1460,8 +7297,6 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
      */
     public static void executeLoop() {
         BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
-        // store var names and their correspondent big number
-        HashMap<String, jxy132330_Jun_Yu_BigNumber_5> varMap = new HashMap<String, jxy132330_Jun_Yu_BigNumber_5>();
         // store line number and expr
         ArrayList<String> exprTable = new ArrayList<String>();
         // exprTable[0] unused
@@ -1494,127 +7329,22 @@ public class jxy132330_Jun_Yu_BigNumber_5 implements Comparable<jxy132330_Jun_Yu
             e.printStackTrace();
         }
 
-        // begin to handle expr
-        int line = 1;
-        while (line < exprTable.size()) {
-            String expr = exprTable.get(line);
-
-            // first handle ? jump
-            if (expr.contains("?")) {
-                String[] jumpParams = expr.split("\\?");
-                if (jumpParams.length != 2) {
-                    System.out.println("Invalid input: wrong jump");
-                    return;
-                }
-
-                String var = jumpParams[0];
-                int lineNum = Integer.parseInt(jumpParams[1]);
-
-                //System.out.println(var + " = " + varMap.get(var).numToStr());
-                if (!varMap.get(var).isZero()) {
-                    // if var value is not 0, then go to Line number
-                    line = lineNum;
-                } else {
-                    // else go to next line
-                    line++;
-                }
-                continue;
-            }
-
-            //System.out.println(expr);
-            // handle expr with or without = and except ?
-            String[] exprParams = expr.split("=");
-            int length = exprParams.length;
-            if (length == 1) {
-                // only var name, then print it
-                System.out.println(varMap.get(exprParams[0]).numToStr());
-            } else if (length == 2) {
-                String left = exprParams[0];
-                String right = exprParams[1];
-
-                if (right.charAt(0) <= '9' && right.charAt(0) >= '1') {
-                    // it's an assignment of number to var
-                    jxy132330_Jun_Yu_BigNumber_5 big = new jxy132330_Jun_Yu_BigNumber_5();
-                    big.strToNum(right);
-                    varMap.put(left, big);
-                } else {
-                    // it's a arithmetic expression
-                    int k; // k point to the index of operator
-                    for (k = 0; k < right.length(); k++) {
-                        char token = right.charAt(k);
-                        if (token == '+' || token == '-' || token == '*' || token == '/' || token == '^' || token == '%' || token == '~' || token == ')') {
-                            break;
-                        }
-                    }
-
-                    // operator at last char or not contained in expr
-                    if (k == right.length()) {
-                        System.out.println("Invalid input: wrong arithmetic expression");
-                        return;
-                    }
-
-                    String leftOperand = right.substring(0, k);
-                    String rightOperand = right.substring(k + 1);
-
-                    jxy132330_Jun_Yu_BigNumber_5 leftBigNumber = varMap.get(leftOperand);
-                    jxy132330_Jun_Yu_BigNumber_5 rightBigNumber = varMap.get(rightOperand);
-
-                    assert leftBigNumber != null : "Invalid input: you have to initialize the variable before you use it: " + expr;
-
-                    /*if (leftBigNumber == null && rightBigNumber == null) {
-                        System.out.println("Invalid input: you have to initialize the variable before you use it");
-                        return;
-                    }*/
-
-                    switch (right.charAt(k)) {
-                        case '+':
-                            varMap.put(left, leftBigNumber.add(rightBigNumber));
-                            break;
-                        case '-':
-                            varMap.put(left, leftBigNumber.subtract(rightBigNumber));
-                            break;
-                        case '*':
-                            varMap.put(left, leftBigNumber.multiply(rightBigNumber));
-                            break;
-                        case '/':
-                            jxy132330_Jun_Yu_BigNumber_5 output = new jxy132330_Jun_Yu_BigNumber_5();
-                            leftBigNumber.divideByInt(varMap.get(rightOperand).numToInt(), output);
-                            varMap.put(left, output);
-                            break;
-                        case '^':
-                            varMap.put(left, leftBigNumber.power(rightBigNumber));
-                            break;
-                        case '%':
-                            jxy132330_Jun_Yu_BigNumber_5 output2 = new jxy132330_Jun_Yu_BigNumber_5();
-                            int temp = leftBigNumber.divideByInt(varMap.get(rightOperand).numToInt(), output2);
-                            jxy132330_Jun_Yu_BigNumber_5 remnant = new jxy132330_Jun_Yu_BigNumber_5();
-                            remnant.strToNum("" + temp);
-                            varMap.put(left, remnant);
-                            break;
-                        case '~':
-                            varMap.put(left, leftBigNumber.sqrt());
-                            break;
-                        case ')':
-                            varMap.put(left, leftBigNumber.maximumPowerIn15Secs());
-                            break;
-                        default:
-                            System.out.println("Invalid input: unknown operator");
-                            return;
-                    }
-                }
-            } else {
-                System.out.println("Invalid input: unknown expression" + expr);
-                return;
-            }
-
-//            System.out.println("" + line + ":");
-//            printMap(varMap);
-            // next line
-            line++;
+        // compile once, then execute
+        LoopProgram program = LoopProgram.compile(exprTable);
+        if (loopJit) {
+            LoopCompiler.run(program);
+        } else {
+            program.run();
         }
     }
 
     public static void main(String[] args) {
+        // -jit compiles the program to bytecode, the other argument is the base
+        if (args.length > 0 && args[0].equals("-jit")) {
+            jxy132330_Jun_Yu_BigNumber_5.setLoopJit(true);
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+
         if (args.length > 0) {
             jxy132330_Jun_Yu_BigNumber_5.setSpecifiedBase(Integer.parseInt(args[0]));
             //System.out.println("Specified base = " + jxy132330_Jun_Yu_BigNumber_5.getSpecifiedBase());